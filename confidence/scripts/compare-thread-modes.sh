@@ -0,0 +1,18 @@
+#!/usr/bin/env sh
+# Runs the load test twice, first on platform Tomcat threads and then with spring.threads.virtual.enabled,
+# and keeps both reports and latency distributions side by side under target/loadtest/.
+#
+# Usage: scripts/compare-thread-modes.sh [--loadtest.* overrides]
+set -eu
+
+cd "$(dirname "$0")/.."
+
+for mode in platform virtual; do
+  if [ "$mode" = virtual ]; then enabled=true; else enabled=false; fi
+  echo "=== $mode threads ==="
+  scripts/run-loadtest.sh --spring.threads.virtual.enabled=$enabled \
+    --loadtest.output-dir=target/loadtest/$mode "$@" | tee "target/loadtest-$mode.txt"
+done
+
+echo "Reports: target/loadtest-platform.txt target/loadtest-virtual.txt"
+echo "Pinning warnings (virtual run) are logged by VirtualThreadPinningMonitor."
@@ -0,0 +1,46 @@
+#!/usr/bin/env sh
+# Runs the JMH benchmarks (Maven profile "benchmark") with the GC profiler and
+# compares the JSON results against a stored baseline.
+#
+# Usage: scripts/run-benchmarks.sh [--save-baseline] [--threshold PERCENT] [BENCHMARK_REGEX]
+set -eu
+
+cd "$(dirname "$0")/.."
+
+MVN="${MVN:-sh ./mvnw}"
+BASELINE="${BASELINE:-benchmarks/baseline.json}"
+RESULTS="target/jmh/results.json"
+THRESHOLD=10
+SAVE_BASELINE=false
+INCLUDE=""
+
+while [ $# -gt 0 ]; do
+  case "$1" in
+    --save-baseline) SAVE_BASELINE=true ;;
+    --threshold) shift; THRESHOLD="$1" ;;
+    *) INCLUDE="$1" ;;
+  esac
+  shift
+done
+
+mkdir -p target/jmh
+$MVN -B -q -Pbenchmark test-compile exec:exec \
+  -Djmh.args="-prof gc -rf json -rff $RESULTS $INCLUDE"
+
+echo "JMH results written to $RESULTS"
+
+if [ "$SAVE_BASELINE" = true ]; then
+  mkdir -p "$(dirname "$BASELINE")"
+  cp "$RESULTS" "$BASELINE"
+  echo "Baseline saved to $BASELINE"
+  exit 0
+fi
+
+if [ ! -f "$BASELINE" ]; then
+  echo "No baseline at $BASELINE; run with --save-baseline to create one."
+  exit 0
+fi
+
+$MVN -B -q -Pbenchmark exec:exec \
+  -Djmh.main=br.com.confidence.benchmark.BaselineComparator \
+  -Djmh.args="$BASELINE $RESULTS $THRESHOLD"
@@ -0,0 +1,13 @@
+#!/usr/bin/env sh
+# Starts the application on an in-memory H2 database (MySQL mode) with a stub mail sender, seeds users
+# and drives login, /auth/me, admin search and register at fixed rates (Maven profile "loadtest").
+#
+# Usage: scripts/run-loadtest.sh [--loadtest.users=N] [--loadtest.duration=60s] [--loadtest.rate.me=200] ...
+# Defaults live in src/loadtest/resources/application-loadtest.properties.
+set -eu
+
+cd "$(dirname "$0")/.."
+
+MVN="${MVN:-sh ./mvnw}"
+
+$MVN -B -q -Ploadtest test-compile exec:exec -Dloadtest.args="$*"
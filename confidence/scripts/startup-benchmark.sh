@@ -0,0 +1,67 @@
+#!/usr/bin/env sh
+# Measures wall-clock time to context refresh for each startup variant produced by `mvn -Pfast-startup package`
+# (and `mvn -Pnative native:compile` when a native executable is present) and prints the median per variant.
+#
+# The training profile needs no database, so by default only the JVM variants without AOT are measured.
+# AOT freezes the Flyway/JPA wiring of the build-time profile: point the run at a reachable database
+# to include the AOT variants, e.g.
+#   STARTUP_ARGS="--spring.profiles.active=dev" INCLUDE_AOT=true scripts/startup-benchmark.sh 10
+#
+# Usage: scripts/startup-benchmark.sh [runs]
+set -eu
+
+cd "$(dirname "$0")/.."
+
+RUNS=${1:-5}
+JAVA=${JAVA_HOME:+$JAVA_HOME/bin/}java
+STARTUP_ARGS=${STARTUP_ARGS:---spring.profiles.active=training}
+INCLUDE_AOT=${INCLUDE_AOT:-false}
+JAR=$(ls target/confidence-*.jar | grep -v plain | head -n 1)
+EXTRACTED=target/cds/$(basename "$JAR")
+ARCHIVE=target/cds/application.jsa
+NATIVE=target/confidence
+EXIT=-Dspring.context.exit=onRefresh
+
+if [ ! -f "$EXTRACTED" ] || [ ! -f "$ARCHIVE" ]; then
+  echo "Missing $EXTRACTED or $ARCHIVE; run: mvn -Pfast-startup -DskipTests package" >&2
+  exit 1
+fi
+
+now_ms() {
+  date +%s%3N
+}
+
+measure() {
+  name=$1
+  shift
+  samples=""
+  i=0
+  while [ "$i" -lt "$RUNS" ]; do
+    t0=$(now_ms)
+    out=$("$@" $STARTUP_ARGS 2>&1) || {
+      echo "$name failed:" >&2
+      echo "$out" | tail -n 20 >&2
+      return 0
+    }
+    t1=$(now_ms)
+    samples="$samples $((t1 - t0))"
+    i=$((i + 1))
+  done
+  printf '%-20s %6s ms  (%s)\n' "$name" "$(median $samples)" "${samples# }"
+}
+
+median() {
+  printf '%s\n' "$@" | sort -n | awk '{ v[NR] = $1 } END { print (NR % 2) ? v[(NR + 1) / 2] : (v[NR / 2] + v[NR / 2 + 1]) / 2 }'
+}
+
+echo "Median wall-clock time to context refresh over $RUNS runs ($STARTUP_ARGS)"
+measure "jar" "$JAVA" $EXIT -jar "$JAR"
+measure "extracted" "$JAVA" $EXIT -jar "$EXTRACTED"
+measure "extracted+cds" "$JAVA" $EXIT -XX:SharedArchiveFile="$ARCHIVE" -jar "$EXTRACTED"
+if [ "$INCLUDE_AOT" = true ]; then
+  measure "extracted+aot" "$JAVA" $EXIT -Dspring.aot.enabled=true -jar "$EXTRACTED"
+  measure "extracted+aot+cds" "$JAVA" $EXIT -XX:SharedArchiveFile="$ARCHIVE" -Dspring.aot.enabled=true -jar "$EXTRACTED"
+fi
+if [ -x "$NATIVE" ]; then
+  measure "native" "$NATIVE" $EXIT
+fi
@@ -0,0 +1,111 @@
+package br.com.confidence.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public final class BaselineComparator {
+
+    private static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+    private static final double MIN_ALLOCATION_DELTA_BYTES = 8.0;
+
+    private BaselineComparator() {}
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BaselineComparator <baseline.json> <current.json> [thresholdPercent]");
+            System.exit(2);
+        }
+
+        double thresholdPercent = args.length > 2 ? Double.parseDouble(args[2]) : 10.0;
+        Map<String, JsonNode> baseline = readResults(new File(args[0]));
+        Map<String, JsonNode> current = readResults(new File(args[1]));
+
+        List<String> regressions = new ArrayList<>();
+        System.out.printf("%-90s %15s %15s %9s%n", "Benchmark", "Baseline", "Current", "Delta");
+
+        for (Map.Entry<String, JsonNode> entry : current.entrySet()) {
+            JsonNode base = baseline.get(entry.getKey());
+            if (base == null) {
+                System.out.printf("%-90s %15s %15s %9s%n", entry.getKey(), "-", "-", "new");
+                continue;
+            }
+
+            JsonNode result = entry.getValue();
+            boolean higherIsBetter = "thrpt".equals(result.path("mode").asText());
+            double baseScore = base.path("primaryMetric").path("score").asDouble();
+            double currentScore = result.path("primaryMetric").path("score").asDouble();
+            double scoreDelta = percentChange(baseScore, currentScore);
+            double scoreRegression = higherIsBetter ? -scoreDelta : scoreDelta;
+
+            System.out.printf("%-90s %15.2f %15.2f %+8.1f%%%n", entry.getKey(), baseScore, currentScore, scoreDelta);
+            if (scoreRegression > thresholdPercent) {
+                regressions.add(String.format("%s score %.2f -> %.2f %s", entry.getKey(), baseScore, currentScore,
+                        result.path("primaryMetric").path("scoreUnit").asText()));
+            }
+
+            Double baseAlloc = allocation(base);
+            Double currentAlloc = allocation(result);
+            if (baseAlloc != null && currentAlloc != null) {
+                double allocDelta = percentChange(baseAlloc, currentAlloc);
+                System.out.printf("%-90s %15.1f %15.1f %+8.1f%%%n", "  " + ALLOCATION_METRIC + " (B/op)",
+                        baseAlloc, currentAlloc, allocDelta);
+                if (currentAlloc - baseAlloc > MIN_ALLOCATION_DELTA_BYTES && allocDelta > thresholdPercent) {
+                    regressions.add(String.format("%s allocation %.1f -> %.1f B/op", entry.getKey(), baseAlloc,
+                            currentAlloc));
+                }
+            }
+        }
+
+        if (regressions.isEmpty()) {
+            System.out.printf("%nNo regressions beyond %.1f%%.%n", thresholdPercent);
+            return;
+        }
+
+        System.out.printf("%nRegressions beyond %.1f%%:%n", thresholdPercent);
+        regressions.forEach(regression -> System.out.println("  " + regression));
+        System.exit(1);
+    }
+
+    private static Map<String, JsonNode> readResults(File file) throws IOException {
+        Map<String, JsonNode> results = new LinkedHashMap<>();
+        for (JsonNode result : new ObjectMapper().readTree(file)) {
+            results.put(key(result), result);
+        }
+        return results;
+    }
+
+    private static String key(JsonNode result) {
+        StringBuilder key = new StringBuilder(result.path("benchmark").asText())
+                .append(" [").append(result.path("mode").asText()).append(']');
+        result.path("params").fields()
+                .forEachRemaining(param -> key.append(' ').append(param.getKey()).append('=')
+                        .append(param.getValue().asText()));
+        return key.toString();
+    }
+
+    private static Double allocation(JsonNode result) {
+        var metrics = result.path("secondaryMetrics").fields();
+        while (metrics.hasNext()) {
+            var metric = metrics.next();
+            if (metric.getKey().replace("·", "").equals(ALLOCATION_METRIC)) {
+                return metric.getValue().path("score").asDouble();
+            }
+        }
+        return null;
+    }
+
+    private static double percentChange(double baseline, double current) {
+        if (baseline == 0.0) {
+            return current == 0.0 ? 0.0 : 100.0;
+        }
+        return (current - baseline) / baseline * 100.0;
+    }
+
+}
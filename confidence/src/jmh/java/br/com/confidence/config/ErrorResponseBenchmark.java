@@ -0,0 +1,68 @@
+package br.com.confidence.config;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import br.com.confidence.dto.error.ErrorResponse;
+import br.com.confidence.exception.user.UserNotFoundException;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-XX:MaxJavaStackTraceDepth=1024")
+public class ErrorResponseBenchmark {
+
+    private static final String PATH = "/users/42";
+
+    private ObjectMapper objectMapper;
+    private ErrorPayloads errorPayloads;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper().registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        errorPayloads = new ErrorPayloads();
+    }
+
+    @Benchmark
+    public RuntimeException stackTraceException() {
+        return new RuntimeException("User not found");
+    }
+
+    @Benchmark
+    public RuntimeException stacklessException() {
+        return new UserNotFoundException("User not found");
+    }
+
+    @Benchmark
+    public byte[] serializedErrorResponse() throws JsonProcessingException {
+        HttpStatus status = HttpStatus.NOT_FOUND;
+        return objectMapper.writeValueAsBytes(
+                new ErrorResponse(Instant.now(), status.value(), status.getReasonPhrase(), "User not found", PATH));
+    }
+
+    @Benchmark
+    public byte[] cachedErrorPayload() {
+        return errorPayloads.render(HttpStatus.NOT_FOUND, "User not found", PATH);
+    }
+
+}
@@ -0,0 +1,58 @@
+package br.com.confidence.mapper.user;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.com.confidence.dto.user.UserResponse;
+import br.com.confidence.model.role.Role;
+import br.com.confidence.model.user.User;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserMapperBenchmark {
+
+    private User user;
+
+    @Setup
+    public void setUp() {
+        Role userRole = new Role();
+        userRole.setId(1L);
+        userRole.setName("USER");
+        userRole.setDescription("Default application user");
+
+        Role adminRole = new Role();
+        adminRole.setId(2L);
+        adminRole.setName("ADMIN");
+        adminRole.setDescription("Default application user ADMIN");
+
+        user = new User();
+        user.setId(1L);
+        user.setName("Benchmark User");
+        user.setEmail("benchmark.user@confidence.com");
+        user.setCreatedAt(LocalDateTime.now());
+        user.setUpdatedAt(LocalDateTime.now());
+        user.setRoles(List.of(userRole, adminRole));
+    }
+
+    @Benchmark
+    public UserResponse toResponse() {
+        return UserMapper.toResponse(user);
+    }
+
+}
@@ -0,0 +1,52 @@
+package br.com.confidence.security;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    private JwtAuthenticationFilter filter;
+    private MockHttpServletRequest authenticatedRequest;
+    private MockHttpServletRequest anonymousRequest;
+
+    @Setup
+    public void setUp() {
+        RoleOrdinals roleOrdinals = new RoleOrdinals();
+        filter = new JwtAuthenticationFilter(null, null, null, roleOrdinals,
+                new AccessClosureRegistry(null, roleOrdinals, null));
+
+        authenticatedRequest = new MockHttpServletRequest("GET", "/auth/me");
+        authenticatedRequest.addHeader("Authorization",
+                "Bearer eyJhbGciOiJIUzI1NiJ9.eyJpc3MiOiJhdXRoLWNvbmZpZGVuY2UtYXBpIn0.signature");
+
+        anonymousRequest = new MockHttpServletRequest("GET", "/auth/me");
+    }
+
+    @Benchmark
+    public String recoverTokenWithBearerHeader() {
+        return filter.recoverToken(authenticatedRequest);
+    }
+
+    @Benchmark
+    public String recoverTokenWithoutHeader() {
+        return filter.recoverToken(anonymousRequest);
+    }
+
+}
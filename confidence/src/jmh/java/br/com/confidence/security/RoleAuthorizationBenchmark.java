@@ -0,0 +1,78 @@
+package br.com.confidence.security;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authorization.AuthorityAuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RoleAuthorizationBenchmark {
+
+    private RequestAuthorizationContext context;
+    private Authentication stringAuthentication;
+    private Authentication maskAuthentication;
+    private AuthorityAuthorizationManager<RequestAuthorizationContext> stringUserRule;
+    private AuthorityAuthorizationManager<RequestAuthorizationContext> stringAdminRule;
+    private RoleMaskAuthorizationManager maskUserRule;
+    private RoleMaskAuthorizationManager maskAdminRule;
+
+    @Setup
+    public void setUp() {
+        context = new RequestAuthorizationContext(new MockHttpServletRequest("GET", "/users"));
+
+        List<GrantedAuthority> authorities = List.of(concatenating("AUDITOR"), concatenating("USER"));
+        stringAuthentication = UsernamePasswordAuthenticationToken.authenticated("user", null, authorities);
+        stringUserRule = AuthorityAuthorizationManager.hasAnyRole("USER", "ADMIN");
+        stringAdminRule = AuthorityAuthorizationManager.hasRole("ADMIN");
+
+        RoleOrdinals roleOrdinals = new RoleOrdinals();
+        maskAuthentication = new RoleMaskAuthenticationToken("user", authorities, roleOrdinals.maskOf("AUDITOR", "USER"));
+        maskUserRule = RoleMaskAuthorizationManager.hasAnyRole(roleOrdinals, "USER", "ADMIN");
+        maskAdminRule = RoleMaskAuthorizationManager.hasAnyRole(roleOrdinals, "ADMIN");
+    }
+
+    @Benchmark
+    public boolean stringHasAnyRoleGranted() {
+        return stringUserRule.authorize(() -> stringAuthentication, context).isGranted();
+    }
+
+    @Benchmark
+    public boolean stringHasRoleDenied() {
+        return stringAdminRule.authorize(() -> stringAuthentication, context).isGranted();
+    }
+
+    @Benchmark
+    public boolean maskHasAnyRoleGranted() {
+        return maskUserRule.authorize(() -> maskAuthentication, context).isGranted();
+    }
+
+    @Benchmark
+    public boolean maskHasRoleDenied() {
+        return maskAdminRule.authorize(() -> maskAuthentication, context).isGranted();
+    }
+
+    private static GrantedAuthority concatenating(String name) {
+        return () -> "ROLE_" + name;
+    }
+
+}
@@ -0,0 +1,67 @@
+package br.com.confidence.validation.user;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class BreachedPasswordDatabaseBenchmark {
+
+    @Param({ "1000000" })
+    private int hashes;
+
+    private Path file;
+    private BreachedPasswordDatabase database;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        SplittableRandom random = new SplittableRandom(42);
+        byte[][] digests = IntStream.range(0, hashes)
+                .mapToObj(i -> ByteBuffer.allocate(20).putLong(random.nextLong()).putLong(random.nextLong())
+                        .putInt(random.nextInt()).array())
+                .sorted(Arrays::compareUnsigned)
+                .toArray(byte[][]::new);
+
+        file = Files.createTempFile("breached-passwords-", ".bin");
+        BreachedPasswordDatabase.write(file, Arrays.asList(digests).iterator());
+        database = BreachedPasswordDatabase.open(file);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        database.close();
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public boolean isBreached() {
+        return database.isBreached("SenhaSegura@123");
+    }
+
+}
@@ -0,0 +1,87 @@
+package br.com.confidence.validation.user;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.com.confidence.exception.user.InvalidUserPasswordException;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserValidationBenchmark {
+
+    @Param({ "SenhaSegura@123", "senhasegura" })
+    private String password;
+
+    private UserValidation userValidation;
+    private PasswordPolicy passwordPolicy;
+
+    @Setup
+    public void setUp() {
+        passwordPolicy = new PasswordPolicy(new PasswordPolicyProperties(8, 128, true, true, true, true,
+                "!@#$%^&*()_+-={}[]:;\"'<>,.?/", 3, 5, List.of("qwerty", "letmein", "iloveyou", "welcome", "confidence")));
+        userValidation = new UserValidation(passwordPolicy, BreachedPasswordDatabase.empty());
+    }
+
+    @Benchmark
+    public boolean validatePasswordUserRequest() {
+        try {
+            userValidation.validatePasswordUserRequest(password);
+            return true;
+        } catch (InvalidUserPasswordException ex) {
+            return false;
+        }
+    }
+
+    @Benchmark
+    public int passwordPolicyEvaluate() {
+        return passwordPolicy.evaluate(password);
+    }
+
+    @Benchmark
+    public boolean regexValidation() {
+        try {
+            validateWithRegex(password);
+            return true;
+        } catch (InvalidUserPasswordException ex) {
+            return false;
+        }
+    }
+
+    private static void validateWithRegex(String password) {
+        if (password == null || password.isBlank()) {
+            throw new InvalidUserPasswordException("Password cannot be null or empty");
+        }
+        if (password.length() < 8) {
+            throw new InvalidUserPasswordException("Password must have at least 8 characters");
+        }
+        if (!password.matches(".*[A-Z].*")) {
+            throw new InvalidUserPasswordException("Password must contain at least one uppercase letter");
+        }
+        if (!password.matches(".*[a-z].*")) {
+            throw new InvalidUserPasswordException("Password must contain at least one lowercase letter");
+        }
+        if (!password.matches(".*\\d.*")) {
+            throw new InvalidUserPasswordException("Password must contain at least one digit");
+        }
+        if (!password.matches(".*[!@#$%^&*()_+\\-={}\\[\\]:;\"'<>,.?/].*")) {
+            throw new InvalidUserPasswordException("Password must contain at least one special character");
+        }
+    }
+
+}
@@ -0,0 +1,24 @@
+package br.com.confidence.loadtest;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+@Configuration
+@Profile("loadtest")
+@EnableConfigurationProperties(LoadTestProperties.class)
+public class LoadTestConfiguration {
+
+    @Bean
+    public StubMailSender javaMailSender() {
+        return new StubMailSender();
+    }
+
+    @Bean
+    public UserSeeder userSeeder(JdbcTemplate jdbcTemplate, PasswordEncoder passwordEncoder) {
+        return new UserSeeder(jdbcTemplate, passwordEncoder);
+    }
+}
@@ -0,0 +1,31 @@
+package br.com.confidence.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties("loadtest")
+public record LoadTestProperties(
+
+    int users,
+
+    int tokenPool,
+
+    Duration warmup,
+
+    Duration duration,
+
+    Path outputDir,
+
+    Map<String, Double> rate,
+
+    double maxUnexpectedRatio
+
+) {
+
+    public double rateOf(String scenario) {
+        return rate.getOrDefault(scenario, 0.0);
+    }
+}
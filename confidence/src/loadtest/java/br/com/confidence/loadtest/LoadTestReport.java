@@ -0,0 +1,58 @@
+package br.com.confidence.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import org.HdrHistogram.Histogram;
+
+public class LoadTestReport {
+
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    private final List<ScenarioStats> results;
+    private final Duration duration;
+
+    public LoadTestReport(List<ScenarioStats> results, Duration duration) {
+        this.results = results;
+        this.duration = duration;
+    }
+
+    public void print(PrintStream out) {
+        out.printf("%n%-10s %10s %10s %8s %8s %9s %9s %9s %9s %9s%n",
+                "scenario", "requests", "req/s", "status", "errors", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+
+        for (ScenarioStats stats : results) {
+            Histogram latencies = stats.getLatencies();
+            out.printf("%-10s %10d %10.1f %8d %8d %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    stats.getScenario().name(),
+                    latencies.getTotalCount(),
+                    latencies.getTotalCount() / (duration.toMillis() / 1000.0),
+                    stats.getUnexpectedStatuses(),
+                    stats.getFailures(),
+                    millis(latencies.getValueAtPercentile(50)),
+                    millis(latencies.getValueAtPercentile(90)),
+                    millis(latencies.getValueAtPercentile(99)),
+                    millis(latencies.getValueAtPercentile(99.9)),
+                    millis(latencies.getMaxValue()));
+        }
+    }
+
+    public void writeHistograms(Path directory) throws IOException {
+        Files.createDirectories(directory);
+
+        for (ScenarioStats stats : results) {
+            Path file = directory.resolve(stats.getScenario().name() + ".hgrm");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+                stats.getLatencies().outputPercentileDistribution(out, MICROS_PER_MILLI);
+            }
+        }
+    }
+
+    private double millis(long micros) {
+        return micros / MICROS_PER_MILLI;
+    }
+}
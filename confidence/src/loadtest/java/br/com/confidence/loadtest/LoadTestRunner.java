@@ -0,0 +1,200 @@
+package br.com.confidence.loadtest;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.confidence.ConfidenceApplication;
+
+public class LoadTestRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadTestRunner.class);
+    private static final String RESET_PASSWORD = "Reset#Pass9word";
+
+    private final LoadTestProperties properties;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final AtomicLong registrations = new AtomicLong();
+
+    LoadTestRunner(LoadTestProperties properties, ObjectMapper objectMapper, HttpClient httpClient, int port) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.httpClient = httpClient;
+        this.baseUrl = "http://localhost:" + port;
+    }
+
+    public static void main(String[] args) throws Exception {
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        String[] arguments = Stream.concat(Stream.of("--spring.profiles.active=loadtest"), Stream.of(args))
+                .toArray(String[]::new);
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(ConfidenceApplication.class)
+                .run(arguments);
+
+        int exitCode;
+        try (HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build()) {
+            LoadTestRunner runner = new LoadTestRunner(
+                    context.getBean(LoadTestProperties.class),
+                    context.getBean(ObjectMapper.class),
+                    httpClient,
+                    context.getEnvironment().getRequiredProperty("local.server.port", Integer.class));
+
+            exitCode = runner.run(context.getBean(UserSeeder.class), context.getBean(StubMailSender.class));
+            log.info("Stub mail sender accepted {} messages", context.getBean(StubMailSender.class).getSent());
+        } finally {
+            SpringApplication.exit(context);
+        }
+
+        System.exit(exitCode);
+    }
+
+    int run(UserSeeder seeder, StubMailSender mailSender) throws Exception {
+        log.info("Seeding {} users", properties.users());
+        List<String> emails = seeder.seedUsers(properties.users());
+        String adminToken = login(seeder.seedAdmin());
+
+        List<String> userTokens = new ArrayList<>();
+        for (int i = 0; i < Math.min(properties.tokenPool(), emails.size()); i++) {
+            userTokens.add(login(emails.get(i)));
+        }
+
+        Queue<String> resetTokens = issueResetTokens(seeder, mailSender);
+
+        List<Scenario> scenarios = Stream.of(
+                new Scenario("login", properties.rateOf("login"), 200,
+                        () -> loginRequest(randomOf(emails))),
+                new Scenario("me", properties.rateOf("me"), 200,
+                        () -> authorized("/auth/me", randomOf(userTokens))),
+                new Scenario("search", properties.rateOf("search"), 200,
+                        () -> authorized("/users/by-email?email=" + URLEncoder.encode(randomOf(emails), StandardCharsets.UTF_8), adminToken)),
+                new Scenario("register", properties.rateOf("register"), 201,
+                        this::registerRequest),
+                new Scenario("forgot", properties.rateOf("forgot"), 204,
+                        () -> forgotPasswordRequest(randomOf(emails))),
+                new Scenario("reset", properties.rateOf("reset"), 204,
+                        () -> resetPasswordRequest(resetTokens.remove())))
+                .filter(scenario -> scenario.ratePerSecond() > 0)
+                .toList();
+
+        log.info("Running {} for {} after {} warmup", scenarios.stream().map(Scenario::name).toList(),
+                properties.duration(), properties.warmup());
+
+        List<ScenarioStats> results = new ScenarioDriver(httpClient)
+                .run(scenarios, properties.warmup(), properties.duration());
+
+        LoadTestReport report = new LoadTestReport(results, properties.duration());
+        report.print(System.out);
+        report.writeHistograms(properties.outputDir());
+        log.info("Latency distributions written to {}", properties.outputDir().toAbsolutePath());
+
+        return results.stream().filter(this::failed).toList().isEmpty() ? 0 : 1;
+    }
+
+    // 503s from the bulkhead or limiter and 500s arrive as responses, so they count against the run too
+    private boolean failed(ScenarioStats stats) {
+        long responses = stats.getLatencies().getTotalCount();
+        boolean tooManyUnexpected = stats.getUnexpectedStatuses() > 0
+                && stats.getUnexpectedStatuses() > properties.maxUnexpectedRatio() * responses;
+        if (tooManyUnexpected) {
+            log.warn("Scenario {} got {} unexpected statuses in {} responses, above the allowed ratio of {}",
+                    stats.getScenario().name(), stats.getUnexpectedStatuses(), responses, properties.maxUnexpectedRatio());
+        }
+        return stats.getFailures() > 0 || tooManyUnexpected;
+    }
+
+    // Each reset consumes a token, so enough are issued up front to cover warmup plus the measured run
+    private Queue<String> issueResetTokens(UserSeeder seeder, StubMailSender mailSender) throws Exception {
+        Queue<String> tokens = new ConcurrentLinkedQueue<>();
+        double rate = properties.rateOf("reset");
+        if (rate <= 0) {
+            return tokens;
+        }
+
+        int count = (int) Math.ceil(rate * (properties.warmup().toMillis() + properties.duration().toMillis()) / 1000.0) + 1;
+        log.info("Issuing {} password reset tokens", count);
+
+        for (String email : seeder.seedUsers("loadtest.reset.", count)) {
+            HttpResponse<Void> response = httpClient.send(forgotPasswordRequest(email), HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() != 204) {
+                throw new IllegalStateException("Forgot password failed for " + email + " with status " + response.statusCode());
+            }
+            tokens.add(mailSender.awaitResetToken(email, Duration.ofSeconds(10)));
+        }
+        return tokens;
+    }
+
+    private String login(String email) throws Exception {
+        HttpResponse<String> response = httpClient.send(loginRequest(email), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Login failed for " + email + " with status " + response.statusCode());
+        }
+        return objectMapper.readTree(response.body()).get("token").asText();
+    }
+
+    private HttpRequest loginRequest(String email) {
+        return json("/auth/login", Map.of("email", email, "password", UserSeeder.PASSWORD));
+    }
+
+    private HttpRequest forgotPasswordRequest(String email) {
+        return json("/auth/forgot-password", Map.of("email", email));
+    }
+
+    private HttpRequest resetPasswordRequest(String token) {
+        return json("/auth/reset-password", Map.of("token", token, "newPassword", RESET_PASSWORD));
+    }
+
+    private HttpRequest registerRequest() {
+        long id = registrations.incrementAndGet();
+        return json("/auth/register", Map.of(
+                "name", "Load Test Register " + id,
+                "email", "loadtest.register." + id + "@confidence.com",
+                "password", UserSeeder.PASSWORD));
+    }
+
+    private HttpRequest json(String path, Map<String, String> body) {
+        try {
+            return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                    .build();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private HttpRequest authorized(String path, String token) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+    }
+
+    private static String randomOf(List<String> values) {
+        return values.get(ThreadLocalRandom.current().nextInt(values.size()));
+    }
+}
@@ -0,0 +1,18 @@
+package br.com.confidence.loadtest;
+
+import java.net.http.HttpRequest;
+import java.util.function.Supplier;
+
+public record Scenario(
+
+    String name,
+
+    double ratePerSecond,
+
+    int expectedStatus,
+
+    Supplier<HttpRequest> requests
+
+) {
+
+}
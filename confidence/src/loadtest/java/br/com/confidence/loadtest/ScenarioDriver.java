@@ -0,0 +1,78 @@
+package br.com.confidence.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.LockSupport;
+
+public class ScenarioDriver {
+
+    private final HttpClient httpClient;
+
+    public ScenarioDriver(HttpClient httpClient) {
+        this.httpClient = httpClient;
+    }
+
+    public List<ScenarioStats> run(List<Scenario> scenarios, Duration warmup, Duration duration)
+            throws InterruptedException {
+        List<ScenarioStats> results = new ArrayList<>();
+        List<Thread> pacers = new ArrayList<>();
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (Scenario scenario : scenarios) {
+                ScenarioStats stats = new ScenarioStats(scenario);
+                results.add(stats);
+                pacers.add(Thread.ofPlatform()
+                        .name("loadtest-" + scenario.name())
+                        .start(() -> pace(stats, executor, start, measureFrom, end)));
+            }
+
+            for (Thread pacer : pacers) {
+                pacer.join();
+            }
+        }
+
+        return results;
+    }
+
+    private void pace(ScenarioStats stats, ExecutorService executor, long start, long measureFrom, long end) {
+        long interval = (long) (1_000_000_000L / stats.getScenario().ratePerSecond());
+
+        for (long intended = start; intended < end; intended += interval) {
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            // Latency is measured from the intended send time so queueing delay is not hidden
+            long scheduledAt = intended;
+            boolean measured = scheduledAt >= measureFrom;
+            executor.execute(() -> send(stats, scheduledAt, measured));
+        }
+    }
+
+    private void send(ScenarioStats stats, long scheduledAt, boolean measured) {
+        Scenario scenario = stats.getScenario();
+        try {
+            HttpResponse<Void> response = httpClient.send(scenario.requests().get(), HttpResponse.BodyHandlers.discarding());
+            if (!measured) {
+                return;
+            }
+            stats.recordLatency(System.nanoTime() - scheduledAt);
+            if (response.statusCode() != scenario.expectedStatus()) {
+                stats.recordUnexpectedStatus();
+            }
+        } catch (Exception e) {
+            if (measured) {
+                stats.recordFailure();
+            }
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package br.com.confidence.loadtest;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+public class ScenarioStats {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final Scenario scenario;
+    private final ConcurrentHistogram latencies = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+    private final LongAdder unexpectedStatuses = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    public ScenarioStats(Scenario scenario) {
+        this.scenario = scenario;
+    }
+
+    public void recordLatency(long nanos) {
+        latencies.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(nanos), HIGHEST_TRACKABLE_MICROS));
+    }
+
+    public void recordUnexpectedStatus() {
+        unexpectedStatuses.increment();
+    }
+
+    public void recordFailure() {
+        failures.increment();
+    }
+
+    public Scenario getScenario() {
+        return scenario;
+    }
+
+    public Histogram getLatencies() {
+        return latencies;
+    }
+
+    public long getUnexpectedStatuses() {
+        return unexpectedStatuses.sum();
+    }
+
+    public long getFailures() {
+        return failures.sum();
+    }
+}
@@ -0,0 +1,57 @@
+package br.com.confidence.loadtest;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import jakarta.mail.internet.MimeMessage;
+
+public class StubMailSender extends JavaMailSenderImpl {
+
+    private static final Pattern RESET_TOKEN = Pattern.compile("[?&]token=([^\\s&]+)");
+
+    private final AtomicLong sent = new AtomicLong();
+    private final Map<String, String> resetTokens = new ConcurrentHashMap<>();
+
+    @Override
+    public void send(SimpleMailMessage... simpleMessages) {
+        for (SimpleMailMessage message : simpleMessages) {
+            Matcher matcher = RESET_TOKEN.matcher(String.valueOf(message.getText()));
+            if (matcher.find() && message.getTo() != null) {
+                for (String to : message.getTo()) {
+                    resetTokens.put(to, matcher.group(1));
+                }
+            }
+        }
+        sent.addAndGet(simpleMessages.length);
+    }
+
+    @Override
+    protected void doSend(MimeMessage[] mimeMessages, Object[] originalMessages) {
+        sent.addAndGet(mimeMessages.length);
+    }
+
+    public String awaitResetToken(String email, Duration timeout) throws TimeoutException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        String token;
+        while ((token = resetTokens.remove(email)) == null) {
+            if (System.nanoTime() > deadline) {
+                throw new TimeoutException("No reset email delivered to " + email);
+            }
+            LockSupport.parkNanos(1_000_000L);
+        }
+        return token;
+    }
+
+    public long getSent() {
+        return sent.get();
+    }
+}
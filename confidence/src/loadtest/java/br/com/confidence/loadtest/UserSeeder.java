@@ -0,0 +1,73 @@
+package br.com.confidence.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import br.com.confidence.normalizer.user.EmailNormalizer;
+
+public class UserSeeder {
+
+    public static final String PASSWORD = "LoadTest@Password123";
+    public static final String ADMIN_EMAIL = "loadtest.admin@confidence.com";
+
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+
+    public UserSeeder(JdbcTemplate jdbcTemplate, PasswordEncoder passwordEncoder) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.passwordEncoder = passwordEncoder;
+    }
+
+    public List<String> seedUsers(int count) {
+        return seedUsers("loadtest.user.", count);
+    }
+
+    public List<String> seedUsers(String emailPrefix, int count) {
+        String hash = passwordEncoder.encode(PASSWORD);
+        List<String> emails = new ArrayList<>(count);
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+
+        for (int i = 0; i < count; i++) {
+            String email = emailPrefix + i + "@confidence.com";
+            emails.add(email);
+            batch.add(new Object[] { "Load Test User " + i, email, hash });
+
+            if (batch.size() == BATCH_SIZE) {
+                insertUsers(batch);
+                batch.clear();
+            }
+        }
+        insertUsers(batch);
+
+        linkRole(emailPrefix + "%", "USER");
+        return emails;
+    }
+
+    public String seedAdmin() {
+        insertUsers(List.<Object[]>of(new Object[] { "Load Test Admin", ADMIN_EMAIL, passwordEncoder.encode(PASSWORD) }));
+        linkRole(ADMIN_EMAIL, "ADMIN");
+        return ADMIN_EMAIL;
+    }
+
+    private void insertUsers(List<Object[]> batch) {
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate("INSERT INTO users (name, email, email_normalized, password) VALUES (?, ?, ?, ?)",
+                    batch.stream()
+                            .map(row -> new Object[] { row[0], row[1], EmailNormalizer.normalize((String) row[1]), row[2] })
+                            .toList());
+        }
+    }
+
+    private void linkRole(String emailPattern, String roleName) {
+        jdbcTemplate.update("""
+                INSERT INTO user_role (user_id, role_id)
+                SELECT u.id, r.id FROM users u, roles r
+                WHERE u.email LIKE ? AND r.name = ?
+                """, emailPattern, roleName);
+    }
+}
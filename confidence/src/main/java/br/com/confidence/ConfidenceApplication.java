@@ -2,12 +2,16 @@ package br.com.confidence;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 
 @SpringBootApplication
 public class ConfidenceApplication {
 
 	public static void main(String[] args) {
-		SpringApplication.run(ConfidenceApplication.class, args);
+		SpringApplication application = new SpringApplication(ConfidenceApplication.class);
+		application.setApplicationStartup(new BufferingApplicationStartup(
+				Integer.getInteger("app.startup.buffer-capacity", 4096)));
+		application.run(args);
 	}
 
 }
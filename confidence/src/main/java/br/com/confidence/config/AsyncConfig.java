@@ -0,0 +1,36 @@
+package br.com.confidence.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+import br.com.confidence.metrics.auth.AuthMetrics;
+
+@Configuration
+@EnableAsync
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class AsyncConfig implements AsyncConfigurer {
+
+    private static final Logger log = LoggerFactory.getLogger(AsyncConfig.class);
+
+    private final AuthMetrics authMetrics;
+
+    public AsyncConfig(AuthMetrics authMetrics) {
+        this.authMetrics = authMetrics;
+    }
+
+    @Override
+    public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
+        return (ex, method, params) -> {
+            String name = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+            log.error("Asynchronous call {} failed", name, ex);
+            authMetrics.recordAsyncFailure(name, ex);
+        };
+    }
+
+}
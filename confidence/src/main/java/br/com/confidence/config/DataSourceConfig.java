@@ -0,0 +1,55 @@
+package br.com.confidence.config;
+
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import br.com.confidence.security.EndpointGroup;
+import br.com.confidence.security.EndpointGroupContext;
+
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.admin-pool.enabled", havingValue = "true", matchIfMissing = true)
+public class DataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource defaultPoolDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("default-pool");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("app.datasource.admin-pool.hikari")
+    public HikariDataSource adminPoolDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("admin-pool");
+        dataSource.setMinimumIdle(1);
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource defaultPoolDataSource, HikariDataSource adminPoolDataSource) {
+        AbstractRoutingDataSource dataSource = new AbstractRoutingDataSource() {
+
+            @Override
+            protected Object determineCurrentLookupKey() {
+                return EndpointGroupContext.current() == EndpointGroup.ADMIN ? EndpointGroup.ADMIN : null;
+            }
+        };
+        dataSource.setTargetDataSources(Map.of(EndpointGroup.ADMIN, adminPoolDataSource));
+        dataSource.setDefaultTargetDataSource(defaultPoolDataSource);
+        return dataSource;
+    }
+}
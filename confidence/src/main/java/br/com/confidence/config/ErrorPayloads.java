@@ -0,0 +1,155 @@
+package br.com.confidence.config;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+@Component
+public class ErrorPayloads {
+
+    private static final int MAX_CACHED_FRAGMENTS = 256;
+
+    private static final int[] POWERS_OF_TEN = { 1, 10, 100, 1_000, 10_000, 100_000, 1_000_000, 10_000_000,
+            100_000_000, 1_000_000_000 };
+    private static final byte[] NULL = "null".getBytes(StandardCharsets.UTF_8);
+
+    private final Map<Fragment, byte[]> fragments = new ConcurrentHashMap<>();
+    private volatile TimestampPrefix timestampPrefix;
+
+    public ResponseEntity<byte[]> toResponseEntity(HttpStatus status, String message, String path) {
+        return ResponseEntity.status(status)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(render(status, message, path));
+    }
+
+    public void write(HttpServletResponse response, HttpStatus status, String message, String path)
+            throws IOException {
+        byte[] body = render(status, message, path);
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    public byte[] render(HttpStatus status, String message, String path) {
+        byte[] fragment = fragment(status, message);
+        Instant now = Instant.now();
+        byte[] prefix = timestampPrefix(now.getEpochSecond());
+        int nanos = now.getNano();
+        int fractionDigits = nanos == 0 ? 0 : nanos % 1_000_000 == 0 ? 3 : nanos % 1_000 == 0 ? 6 : 9;
+        byte[] escapedPath = path == null || isPlainAscii(path) ? null : quote(path);
+        int pathLength = path == null ? NULL.length : escapedPath != null ? escapedPath.length : path.length() + 2;
+
+        byte[] body = new byte[prefix.length + (fractionDigits > 0 ? fractionDigits + 1 : 0) + 1 + fragment.length
+                + pathLength + 1];
+        System.arraycopy(prefix, 0, body, 0, prefix.length);
+        int position = prefix.length;
+
+        if (fractionDigits > 0) {
+            body[position++] = '.';
+            int fraction = nanos / POWERS_OF_TEN[9 - fractionDigits];
+            for (int i = fractionDigits - 1; i >= 0; i--) {
+                body[position + i] = (byte) ('0' + fraction % 10);
+                fraction /= 10;
+            }
+            position += fractionDigits;
+        }
+        body[position++] = 'Z';
+
+        System.arraycopy(fragment, 0, body, position, fragment.length);
+        position += fragment.length;
+
+        if (path == null) {
+            System.arraycopy(NULL, 0, body, position, NULL.length);
+        } else if (escapedPath != null) {
+            System.arraycopy(escapedPath, 0, body, position, escapedPath.length);
+        } else {
+            body[position] = '"';
+            for (int i = 0; i < path.length(); i++) {
+                body[position + 1 + i] = (byte) path.charAt(i);
+            }
+            body[position + path.length() + 1] = '"';
+        }
+        body[body.length - 1] = '}';
+        return body;
+    }
+
+    private byte[] timestampPrefix(long epochSecond) {
+        TimestampPrefix cached = timestampPrefix;
+        if (cached != null && cached.epochSecond() == epochSecond) {
+            return cached.bytes();
+        }
+
+        String seconds = DateTimeFormatter.ISO_LOCAL_DATE_TIME
+                .format(LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC));
+        byte[] bytes = ("{\"timestamp\":\"" + (seconds.length() == 16 ? seconds + ":00" : seconds))
+                .getBytes(StandardCharsets.US_ASCII);
+        timestampPrefix = new TimestampPrefix(epochSecond, bytes);
+        return bytes;
+    }
+
+    private static boolean isPlainAscii(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char ch = value.charAt(i);
+            if (ch < 0x20 || ch > 0x7e || ch == '"' || ch == '\\') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private byte[] fragment(HttpStatus status, String message) {
+        Fragment key = new Fragment(status, message);
+        byte[] cached = fragments.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        byte[] fragment = buildFragment(status, message);
+        if (fragments.size() < MAX_CACHED_FRAGMENTS) {
+            fragments.putIfAbsent(key, fragment);
+        }
+        return fragment;
+    }
+
+    private static byte[] buildFragment(HttpStatus status, String message) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(96);
+        out.writeBytes(("\",\"status\":" + status.value() + ",\"error\":").getBytes(StandardCharsets.UTF_8));
+        out.writeBytes(quote(status.getReasonPhrase()));
+        out.writeBytes(",\"message\":".getBytes(StandardCharsets.UTF_8));
+        out.writeBytes(message == null ? NULL : quote(message));
+        out.writeBytes(",\"path\":".getBytes(StandardCharsets.UTF_8));
+        return out.toByteArray();
+    }
+
+    private static byte[] quote(String value) {
+        byte[] escaped = JsonStringEncoder.getInstance().quoteAsUTF8(value);
+        byte[] quoted = new byte[escaped.length + 2];
+        quoted[0] = '"';
+        System.arraycopy(escaped, 0, quoted, 1, escaped.length);
+        quoted[quoted.length - 1] = '"';
+        return quoted;
+    }
+
+    private record Fragment(HttpStatus status, String message) {
+    }
+
+    private record TimestampPrefix(long epochSecond, byte[] bytes) {
+    }
+
+}
@@ -2,8 +2,15 @@ package br.com.confidence.config;
 
 import br.com.confidence.dto.error.ErrorResponse;
 import br.com.confidence.exception.auth.PasswordResetTokenExpiredException;
+import br.com.confidence.exception.permission.PermissionAlreadyExistsException;
+import br.com.confidence.exception.permission.PermissionNotFoundException;
+import br.com.confidence.exception.role.InvalidReplacementRoleException;
 import br.com.confidence.exception.role.InvalidRoleNameException;
 import br.com.confidence.exception.role.RoleAlreadyExistsException;
+import br.com.confidence.exception.role.RoleDeletionJobNotFoundException;
+import br.com.confidence.exception.role.RoleHierarchyCycleException;
+import br.com.confidence.exception.role.RoleDeletionInProgressException;
+import br.com.confidence.exception.role.RoleInUseException;
 import br.com.confidence.exception.role.RoleNotFoundException;
 import br.com.confidence.exception.user.CurrentPasswordIncorrectException;
 import br.com.confidence.exception.user.EmailAlreadyInUseException;
@@ -29,6 +36,12 @@ import java.util.stream.Collectors;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    private final ErrorPayloads errorPayloads;
+
+    public GlobalExceptionHandler(ErrorPayloads errorPayloads) {
+        this.errorPayloads = errorPayloads;
+    }
+
     @ExceptionHandler(InvalidRoleNameException.class)
     public ResponseEntity<ErrorResponse> handleInvalidRoleName(InvalidRoleNameException ex,
             HttpServletRequest request) {
@@ -36,15 +49,57 @@ public class GlobalExceptionHandler {
     }
 
     @ExceptionHandler(RoleAlreadyExistsException.class)
-    public ResponseEntity<ErrorResponse> handleRoleAlreadyExists(RoleAlreadyExistsException ex,
+    public ResponseEntity<byte[]> handleRoleAlreadyExists(RoleAlreadyExistsException ex,
             HttpServletRequest request) {
-        return buildErrorResponse(ex, HttpStatus.CONFLICT, request);
+        return cachedErrorResponse(ex, HttpStatus.CONFLICT, request);
     }
 
     @ExceptionHandler(RoleNotFoundException.class)
-    public ResponseEntity<ErrorResponse> handleRoleNotFound(RoleNotFoundException ex,
+    public ResponseEntity<byte[]> handleRoleNotFound(RoleNotFoundException ex,
+            HttpServletRequest request) {
+        return cachedErrorResponse(ex, HttpStatus.NOT_FOUND, request);
+    }
+
+    @ExceptionHandler(RoleHierarchyCycleException.class)
+    public ResponseEntity<byte[]> handleRoleHierarchyCycle(RoleHierarchyCycleException ex,
             HttpServletRequest request) {
-        return buildErrorResponse(ex, HttpStatus.NOT_FOUND, request);
+        return cachedErrorResponse(ex, HttpStatus.CONFLICT, request);
+    }
+
+    @ExceptionHandler(RoleInUseException.class)
+    public ResponseEntity<byte[]> handleRoleInUse(RoleInUseException ex,
+            HttpServletRequest request) {
+        return cachedErrorResponse(ex, HttpStatus.CONFLICT, request);
+    }
+
+    @ExceptionHandler(InvalidReplacementRoleException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidReplacementRole(InvalidReplacementRoleException ex,
+            HttpServletRequest request) {
+        return buildErrorResponse(ex, HttpStatus.BAD_REQUEST, request);
+    }
+
+    @ExceptionHandler(RoleDeletionInProgressException.class)
+    public ResponseEntity<byte[]> handleRoleDeletionInProgress(RoleDeletionInProgressException ex,
+            HttpServletRequest request) {
+        return cachedErrorResponse(ex, HttpStatus.CONFLICT, request);
+    }
+
+    @ExceptionHandler(RoleDeletionJobNotFoundException.class)
+    public ResponseEntity<byte[]> handleRoleDeletionJobNotFound(RoleDeletionJobNotFoundException ex,
+            HttpServletRequest request) {
+        return cachedErrorResponse(ex, HttpStatus.NOT_FOUND, request);
+    }
+
+    @ExceptionHandler(PermissionAlreadyExistsException.class)
+    public ResponseEntity<byte[]> handlePermissionAlreadyExists(PermissionAlreadyExistsException ex,
+            HttpServletRequest request) {
+        return cachedErrorResponse(ex, HttpStatus.CONFLICT, request);
+    }
+
+    @ExceptionHandler(PermissionNotFoundException.class)
+    public ResponseEntity<byte[]> handlePermissionNotFound(PermissionNotFoundException ex,
+            HttpServletRequest request) {
+        return cachedErrorResponse(ex, HttpStatus.NOT_FOUND, request);
     }
 
     @ExceptionHandler(CurrentPasswordIncorrectException.class)
@@ -54,9 +109,9 @@ public class GlobalExceptionHandler {
     }
 
     @ExceptionHandler(EmailAlreadyInUseException.class)
-    public ResponseEntity<ErrorResponse> handleEmailAlreadyInUse(EmailAlreadyInUseException ex,
+    public ResponseEntity<byte[]> handleEmailAlreadyInUse(EmailAlreadyInUseException ex,
             HttpServletRequest request) {
-        return buildErrorResponse(ex, HttpStatus.CONFLICT, request);
+        return cachedErrorResponse(ex, HttpStatus.CONFLICT, request);
     }
 
     @ExceptionHandler(InvalidUserEmailException.class)
@@ -78,29 +133,29 @@ public class GlobalExceptionHandler {
     }
 
     @ExceptionHandler(UserAlreadyExistsException.class)
-    public ResponseEntity<ErrorResponse> handleUserAlreadyExists(UserAlreadyExistsException ex,
+    public ResponseEntity<byte[]> handleUserAlreadyExists(UserAlreadyExistsException ex,
             HttpServletRequest request) {
-        return buildErrorResponse(ex, HttpStatus.CONFLICT, request);
+        return cachedErrorResponse(ex, HttpStatus.CONFLICT, request);
     }
 
     @ExceptionHandler(UserNotFoundException.class)
-    public ResponseEntity<ErrorResponse> handleUserNotFound(UserNotFoundException ex,
+    public ResponseEntity<byte[]> handleUserNotFound(UserNotFoundException ex,
             HttpServletRequest request) {
-        return buildErrorResponse(ex, HttpStatus.NOT_FOUND, request);
+        return cachedErrorResponse(ex, HttpStatus.NOT_FOUND, request);
     }
 
     @ExceptionHandler(AuthenticationException.class)
-    public ResponseEntity<ErrorResponse> handleAuthenticationException(
+    public ResponseEntity<byte[]> handleAuthenticationException(
             AuthenticationException ex,
             HttpServletRequest request) {
-        return buildErrorResponse(HttpStatus.UNAUTHORIZED, "Invalid credentials", request);
+        return errorPayloads.toResponseEntity(HttpStatus.UNAUTHORIZED, "Invalid credentials", request.getRequestURI());
     }
 
     @ExceptionHandler(AccessDeniedException.class)
-    public ResponseEntity<ErrorResponse> handleAccessDenied(
+    public ResponseEntity<byte[]> handleAccessDenied(
             AccessDeniedException ex,
             HttpServletRequest request) {
-        return buildErrorResponse(HttpStatus.FORBIDDEN, "Forbidden", request);
+        return errorPayloads.toResponseEntity(HttpStatus.FORBIDDEN, "Forbidden", request.getRequestURI());
     }
 
     @ExceptionHandler(PasswordResetTokenExpiredException.class)
@@ -140,6 +195,12 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(HttpStatus.BAD_REQUEST, msg, request);
     }
 
+    private ResponseEntity<byte[]> cachedErrorResponse(Exception ex,
+            HttpStatus status,
+            HttpServletRequest request) {
+        return errorPayloads.toResponseEntity(status, ex.getMessage(), request.getRequestURI());
+    }
+
     private ResponseEntity<ErrorResponse> buildErrorResponse(Exception ex,
             HttpStatus status,
             HttpServletRequest request) {
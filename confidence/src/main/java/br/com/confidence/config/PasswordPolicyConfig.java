@@ -0,0 +1,41 @@
+package br.com.confidence.config;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import br.com.confidence.validation.user.BreachedPasswordDatabase;
+import br.com.confidence.validation.user.PasswordPolicy;
+import br.com.confidence.validation.user.PasswordPolicyProperties;
+
+@Configuration
+@EnableConfigurationProperties(PasswordPolicyProperties.class)
+public class PasswordPolicyConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(PasswordPolicyConfig.class);
+
+    @Bean
+    public PasswordPolicy passwordPolicy(PasswordPolicyProperties properties) {
+        return new PasswordPolicy(properties);
+    }
+
+    @Bean(destroyMethod = "close")
+    public BreachedPasswordDatabase breachedPasswordDatabase(
+            @Value("${app.breached-passwords.file:}") String file) throws IOException {
+        if (file.isBlank()) {
+            log.info("No breached password database configured, skipping breached password checks");
+            return BreachedPasswordDatabase.empty();
+        }
+
+        BreachedPasswordDatabase database = BreachedPasswordDatabase.open(Path.of(file));
+        log.info("Mapped breached password database {} with {} hashes", file, database.size());
+        return database;
+    }
+
+}
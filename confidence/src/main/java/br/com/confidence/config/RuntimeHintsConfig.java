@@ -0,0 +1,53 @@
+package br.com.confidence.config;
+
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+import br.com.confidence.model.auth.PasswordResetToken;
+import br.com.confidence.model.permission.Permission;
+import br.com.confidence.model.role.Role;
+import br.com.confidence.model.role.RoleDeletionJob;
+import br.com.confidence.model.user.User;
+
+@Configuration
+@ImportRuntimeHints(RuntimeHintsConfig.ApplicationRuntimeHints.class)
+public class RuntimeHintsConfig {
+
+    static class ApplicationRuntimeHints implements RuntimeHintsRegistrar {
+
+        private static final String[] JWT_TYPES = {
+                "com.auth0.jwt.impl.BasicHeader",
+                "com.auth0.jwt.impl.PayloadImpl",
+                "com.auth0.jwt.impl.ClaimsHolder",
+                "com.auth0.jwt.impl.HeaderClaimsHolder",
+                "com.auth0.jwt.impl.PayloadClaimsHolder",
+                "com.auth0.jwt.impl.HeaderSerializer",
+                "com.auth0.jwt.impl.PayloadSerializer",
+                "com.auth0.jwt.impl.HeaderDeserializer",
+                "com.auth0.jwt.impl.PayloadDeserializer" };
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            for (Class<?> entity : new Class<?>[] { User.class, Role.class, RoleDeletionJob.class, Permission.class, PasswordResetToken.class }) {
+                hints.reflection().registerType(entity,
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                        MemberCategory.DECLARED_FIELDS,
+                        MemberCategory.INVOKE_PUBLIC_METHODS);
+            }
+
+            for (String type : JWT_TYPES) {
+                hints.reflection().registerType(TypeReference.of(type),
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                        MemberCategory.INVOKE_PUBLIC_METHODS,
+                        MemberCategory.DECLARED_FIELDS);
+            }
+
+            hints.resources().registerPattern("jfr/auth.jfc");
+            hints.resources().registerPattern("db/migration/*.sql");
+        }
+    }
+}
@@ -23,6 +23,7 @@ import br.com.confidence.dto.user.UserRequest;
 import br.com.confidence.dto.user.UserResponse;
 import br.com.confidence.exception.user.UserNotFoundException;
 import br.com.confidence.mapper.user.UserMapper;
+import br.com.confidence.metrics.auth.AuthMetrics;
 import br.com.confidence.repository.user.UserRepository;
 import br.com.confidence.service.auth.AuthService;
 import br.com.confidence.service.auth.PasswordRecoveryService;
@@ -38,19 +39,21 @@ public class AuthController {
     private final AuthService authService;
     private final PasswordRecoveryService passwordRecoveryService;
     private final UserRepository userRepository;
+    private final AuthMetrics authMetrics;
 
     public AuthController(UserService userService, AuthService authService,
-            PasswordRecoveryService passwordRecoveryService, UserRepository userRepository) {
+            PasswordRecoveryService passwordRecoveryService, UserRepository userRepository, AuthMetrics authMetrics) {
         this.userService = userService;
         this.authService = authService;
         this.passwordRecoveryService = passwordRecoveryService;
         this.userRepository = userRepository;
+        this.authMetrics = authMetrics;
     }
 
     @PostMapping("/register")
     public ResponseEntity<UserResponse> register(@Valid @RequestBody RegisterRequest request) {
         UserRequest userRequest = UserMapper.toUserRequest(request);
-        UserResponse created = userService.create(userRequest);
+        UserResponse created = authMetrics.recordRegistration(() -> userService.create(userRequest));
         return ResponseEntity.status(HttpStatus.CREATED).body(created);
     }
 
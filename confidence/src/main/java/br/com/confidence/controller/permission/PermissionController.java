@@ -0,0 +1,65 @@
+package br.com.confidence.controller.permission;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import br.com.confidence.dto.permission.PermissionRequest;
+import br.com.confidence.dto.permission.PermissionResponse;
+import br.com.confidence.service.permission.PermissionService;
+import jakarta.validation.Valid;
+
+@RestController
+@Validated
+@RequestMapping("/permissions")
+public class PermissionController {
+
+    private final PermissionService permissionService;
+
+    @Autowired
+    public PermissionController(PermissionService permissionService) {
+        this.permissionService = permissionService;
+    }
+
+    @PostMapping
+    public ResponseEntity<PermissionResponse> createPermission(@Valid @RequestBody PermissionRequest request) {
+        PermissionResponse newPermission = permissionService.create(request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(newPermission);
+    }
+
+    @PutMapping("/{id}")
+    public ResponseEntity<PermissionResponse> updatePermission(@PathVariable long id, @Valid @RequestBody PermissionRequest request) {
+        PermissionResponse updatedPermission = permissionService.update(request, id);
+        return ResponseEntity.ok(updatedPermission);
+    }
+
+    @DeleteMapping("/{id}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void deletePermission(@PathVariable long id) {
+        permissionService.delete(id);
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<PermissionResponse> searchById(@PathVariable long id) {
+        PermissionResponse permission = permissionService.searchById(id);
+        return ResponseEntity.ok(permission);
+    }
+
+    @GetMapping
+    public ResponseEntity<List<PermissionResponse>> listAll() {
+        List<PermissionResponse> permissions = permissionService.listAll();
+        return ResponseEntity.ok(permissions);
+    }
+}
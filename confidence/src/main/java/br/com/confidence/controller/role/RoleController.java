@@ -1,5 +1,6 @@
 package br.com.confidence.controller.role;
 
+import java.net.URI;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -17,9 +18,16 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
+import br.com.confidence.dto.role.RoleAccessResponse;
+import br.com.confidence.dto.role.RoleAssignmentRequest;
+import br.com.confidence.dto.role.RoleAssignmentResponse;
+import br.com.confidence.dto.role.RoleDeletionJobResponse;
 import br.com.confidence.dto.role.RoleRequest;
 import br.com.confidence.dto.role.RoleResponse;
 import br.com.confidence.dto.role.RoleUpdateRequest;
+import br.com.confidence.service.role.RoleAssignmentService;
+import br.com.confidence.service.role.RoleDeletionService;
+import br.com.confidence.service.role.RoleHierarchyService;
 import br.com.confidence.service.role.RoleService;
 import jakarta.validation.Valid;
 
@@ -29,10 +37,17 @@ import jakarta.validation.Valid;
 public class RoleController {
 
     private final RoleService roleService;
+    private final RoleAssignmentService roleAssignmentService;
+    private final RoleHierarchyService roleHierarchyService;
+    private final RoleDeletionService roleDeletionService;
 
     @Autowired
-    public RoleController(RoleService roleService) {
+    public RoleController(RoleService roleService, RoleAssignmentService roleAssignmentService,
+            RoleHierarchyService roleHierarchyService, RoleDeletionService roleDeletionService) {
         this.roleService = roleService;
+        this.roleAssignmentService = roleAssignmentService;
+        this.roleHierarchyService = roleHierarchyService;
+        this.roleDeletionService = roleDeletionService;
     }
 
     @PostMapping
@@ -53,6 +68,18 @@ public class RoleController {
         roleService.delete(id);
     }
 
+    @DeleteMapping(value = "/{id}", params = "cascade=true")
+    public ResponseEntity<RoleDeletionJobResponse> deleteRoleWithCascade(@PathVariable long id,
+            @RequestParam(required = false) Long replacementRoleId) {
+        RoleDeletionJobResponse job = roleDeletionService.schedule(id, replacementRoleId);
+        return ResponseEntity.accepted().location(URI.create("/roles/deletions/" + job.id())).body(job);
+    }
+
+    @GetMapping("/deletions/{jobId}")
+    public ResponseEntity<RoleDeletionJobResponse> searchDeletionJob(@PathVariable long jobId) {
+        return ResponseEntity.ok(roleDeletionService.searchById(jobId));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<RoleResponse> searchById(@PathVariable long id) {
         RoleResponse role = roleService.searchById(id);
@@ -70,4 +97,49 @@ public class RoleController {
         List<RoleResponse> roles = roleService.listAll();
         return ResponseEntity.ok(roles);
     }
+
+    @PutMapping("/{id}/users/{userId}")
+    public ResponseEntity<RoleAssignmentResponse> assignToUser(@PathVariable long id, @PathVariable long userId) {
+        return ResponseEntity.ok(roleAssignmentService.assign(id, userId));
+    }
+
+    @DeleteMapping("/{id}/users/{userId}")
+    public ResponseEntity<RoleAssignmentResponse> revokeFromUser(@PathVariable long id, @PathVariable long userId) {
+        return ResponseEntity.ok(roleAssignmentService.revoke(id, userId));
+    }
+
+    @PostMapping("/{id}/assignments")
+    public ResponseEntity<RoleAssignmentResponse> assignToUsers(@PathVariable long id, @Valid @RequestBody RoleAssignmentRequest request) {
+        return ResponseEntity.ok(roleAssignmentService.assignAll(id, request.userIds()));
+    }
+
+    @PostMapping("/{id}/revocations")
+    public ResponseEntity<RoleAssignmentResponse> revokeFromUsers(@PathVariable long id, @Valid @RequestBody RoleAssignmentRequest request) {
+        return ResponseEntity.ok(roleAssignmentService.revokeAll(id, request.userIds()));
+    }
+
+    @GetMapping("/{id}/access")
+    public ResponseEntity<RoleAccessResponse> effectiveAccess(@PathVariable long id) {
+        return ResponseEntity.ok(roleHierarchyService.effectiveAccess(id));
+    }
+
+    @PutMapping("/{id}/includes/{includedRoleId}")
+    public ResponseEntity<RoleAccessResponse> includeRole(@PathVariable long id, @PathVariable long includedRoleId) {
+        return ResponseEntity.ok(roleHierarchyService.includeRole(id, includedRoleId));
+    }
+
+    @DeleteMapping("/{id}/includes/{includedRoleId}")
+    public ResponseEntity<RoleAccessResponse> excludeRole(@PathVariable long id, @PathVariable long includedRoleId) {
+        return ResponseEntity.ok(roleHierarchyService.excludeRole(id, includedRoleId));
+    }
+
+    @PutMapping("/{id}/permissions/{permissionId}")
+    public ResponseEntity<RoleAccessResponse> grantPermission(@PathVariable long id, @PathVariable long permissionId) {
+        return ResponseEntity.ok(roleHierarchyService.grantPermission(id, permissionId));
+    }
+
+    @DeleteMapping("/{id}/permissions/{permissionId}")
+    public ResponseEntity<RoleAccessResponse> revokePermission(@PathVariable long id, @PathVariable long permissionId) {
+        return ResponseEntity.ok(roleHierarchyService.revokePermission(id, permissionId));
+    }
 }
@@ -0,0 +1,14 @@
+package br.com.confidence.dto.permission;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+
+public record PermissionRequest(
+
+    @NotBlank(message = "Name cannot be null/empty.")
+    @Pattern(regexp = "[a-z][a-z0-9-]*(:[a-z][a-z0-9-]*)+", message = "Name must look like resource:action")
+    String name,
+
+    String description
+
+) {}
@@ -0,0 +1,11 @@
+package br.com.confidence.dto.permission;
+
+public record PermissionResponse(
+
+    long id,
+
+    String name,
+
+    String description
+
+) {}
@@ -0,0 +1,15 @@
+package br.com.confidence.dto.role;
+
+import java.util.List;
+
+public record RoleAccessResponse(
+
+    long id,
+
+    String name,
+
+    List<String> effectiveRoles,
+
+    List<String> effectivePermissions
+
+) {}
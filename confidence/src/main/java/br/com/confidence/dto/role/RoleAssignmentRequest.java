@@ -0,0 +1,15 @@
+package br.com.confidence.dto.role;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+public record RoleAssignmentRequest(
+
+    @NotEmpty(message = "User ids cannot be null/empty.")
+    @Size(max = 10000, message = "At most 10000 user ids per request")
+    List<@NotNull Long> userIds
+
+) {}
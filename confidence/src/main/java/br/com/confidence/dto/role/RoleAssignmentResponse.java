@@ -0,0 +1,9 @@
+package br.com.confidence.dto.role;
+
+public record RoleAssignmentResponse(
+
+    long roleId,
+    int requested,
+    int changed
+
+) {}
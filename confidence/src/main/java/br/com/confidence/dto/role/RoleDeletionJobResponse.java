@@ -0,0 +1,29 @@
+package br.com.confidence.dto.role;
+
+import java.time.LocalDateTime;
+
+import br.com.confidence.model.role.RoleDeletionStatus;
+
+public record RoleDeletionJobResponse(
+
+    long id,
+
+    long roleId,
+
+    Long replacementRoleId,
+
+    RoleDeletionStatus status,
+
+    long totalUsers,
+
+    long processedUsers,
+
+    String errorMessage,
+
+    LocalDateTime createdAt,
+
+    LocalDateTime updatedAt,
+
+    LocalDateTime completedAt
+
+) {}
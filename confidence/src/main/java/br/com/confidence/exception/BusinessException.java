@@ -0,0 +1,9 @@
+package br.com.confidence.exception;
+
+public abstract class BusinessException extends RuntimeException {
+
+    protected BusinessException(String message) {
+        super(message, null, false, false);
+    }
+
+}
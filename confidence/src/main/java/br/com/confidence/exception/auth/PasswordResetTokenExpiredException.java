@@ -1,6 +1,8 @@
 package br.com.confidence.exception.auth;
 
-public class PasswordResetTokenExpiredException extends RuntimeException {
+import br.com.confidence.exception.BusinessException;
+
+public class PasswordResetTokenExpiredException extends BusinessException {
     public PasswordResetTokenExpiredException(String message) {
         super(message);
     }
@@ -0,0 +1,11 @@
+package br.com.confidence.exception.permission;
+
+import br.com.confidence.exception.BusinessException;
+
+public class PermissionAlreadyExistsException extends BusinessException {
+
+    public PermissionAlreadyExistsException(String message) {
+        super(message);
+    }
+
+}
@@ -0,0 +1,11 @@
+package br.com.confidence.exception.permission;
+
+import br.com.confidence.exception.BusinessException;
+
+public class PermissionNotFoundException extends BusinessException {
+
+    public PermissionNotFoundException(String message) {
+        super(message);
+    }
+
+}
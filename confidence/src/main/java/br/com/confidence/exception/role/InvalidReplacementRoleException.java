@@ -0,0 +1,11 @@
+package br.com.confidence.exception.role;
+
+import br.com.confidence.exception.BusinessException;
+
+public class InvalidReplacementRoleException extends BusinessException {
+
+    public InvalidReplacementRoleException(String message) {
+        super(message);
+    }
+
+}
@@ -1,6 +1,8 @@
 package br.com.confidence.exception.role;
 
-public class InvalidRoleNameException extends RuntimeException {
+import br.com.confidence.exception.BusinessException;
+
+public class InvalidRoleNameException extends BusinessException {
     public InvalidRoleNameException(String message) {
         super(message);
     }
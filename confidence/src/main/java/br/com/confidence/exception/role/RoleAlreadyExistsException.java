@@ -1,6 +1,8 @@
 package br.com.confidence.exception.role;
 
-public class RoleAlreadyExistsException extends RuntimeException {
+import br.com.confidence.exception.BusinessException;
+
+public class RoleAlreadyExistsException extends BusinessException {
     public RoleAlreadyExistsException(String message) {
         super(message);
     }
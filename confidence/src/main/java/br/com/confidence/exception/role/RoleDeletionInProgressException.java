@@ -0,0 +1,11 @@
+package br.com.confidence.exception.role;
+
+import br.com.confidence.exception.BusinessException;
+
+public class RoleDeletionInProgressException extends BusinessException {
+
+    public RoleDeletionInProgressException(String message) {
+        super(message);
+    }
+
+}
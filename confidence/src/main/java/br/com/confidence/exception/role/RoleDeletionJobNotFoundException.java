@@ -0,0 +1,11 @@
+package br.com.confidence.exception.role;
+
+import br.com.confidence.exception.BusinessException;
+
+public class RoleDeletionJobNotFoundException extends BusinessException {
+
+    public RoleDeletionJobNotFoundException(String message) {
+        super(message);
+    }
+
+}
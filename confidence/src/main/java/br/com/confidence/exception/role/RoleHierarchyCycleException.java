@@ -0,0 +1,11 @@
+package br.com.confidence.exception.role;
+
+import br.com.confidence.exception.BusinessException;
+
+public class RoleHierarchyCycleException extends BusinessException {
+
+    public RoleHierarchyCycleException(String message) {
+        super(message);
+    }
+
+}
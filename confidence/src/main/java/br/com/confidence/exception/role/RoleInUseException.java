@@ -0,0 +1,11 @@
+package br.com.confidence.exception.role;
+
+import br.com.confidence.exception.BusinessException;
+
+public class RoleInUseException extends BusinessException {
+
+    public RoleInUseException(String message) {
+        super(message);
+    }
+
+}
@@ -1,6 +1,8 @@
 package br.com.confidence.exception.role;
 
-public class RoleNotFoundException extends RuntimeException {
+import br.com.confidence.exception.BusinessException;
+
+public class RoleNotFoundException extends BusinessException {
 
     public RoleNotFoundException(String message) {
         super(message);
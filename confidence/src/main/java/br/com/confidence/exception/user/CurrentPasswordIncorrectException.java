@@ -1,6 +1,8 @@
 package br.com.confidence.exception.user;
 
-public class CurrentPasswordIncorrectException extends RuntimeException {
+import br.com.confidence.exception.BusinessException;
+
+public class CurrentPasswordIncorrectException extends BusinessException {
     public CurrentPasswordIncorrectException(String message) {
         super(message);
     }
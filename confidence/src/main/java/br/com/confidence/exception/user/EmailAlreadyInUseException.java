@@ -1,6 +1,8 @@
 package br.com.confidence.exception.user;
 
-public class EmailAlreadyInUseException extends RuntimeException {
+import br.com.confidence.exception.BusinessException;
+
+public class EmailAlreadyInUseException extends BusinessException {
     public EmailAlreadyInUseException(String message) {
         super(message);
     }
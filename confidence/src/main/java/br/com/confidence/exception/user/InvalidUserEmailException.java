@@ -1,6 +1,8 @@
 package br.com.confidence.exception.user;
 
-public class InvalidUserEmailException extends RuntimeException {
+import br.com.confidence.exception.BusinessException;
+
+public class InvalidUserEmailException extends BusinessException {
     public InvalidUserEmailException(String message) {
         super(message);
     }
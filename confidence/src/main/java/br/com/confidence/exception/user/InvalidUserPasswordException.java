@@ -1,6 +1,8 @@
 package br.com.confidence.exception.user;
 
-public class InvalidUserPasswordException extends RuntimeException {
+import br.com.confidence.exception.BusinessException;
+
+public class InvalidUserPasswordException extends BusinessException {
     public InvalidUserPasswordException(String message) {
         super(message);
     }
@@ -1,6 +1,8 @@
 package br.com.confidence.exception.user;
 
-public class InvalidUsernameException extends RuntimeException {
+import br.com.confidence.exception.BusinessException;
+
+public class InvalidUsernameException extends BusinessException {
 
     public InvalidUsernameException(String message) {
         super(message);
@@ -1,6 +1,8 @@
 package br.com.confidence.exception.user;
 
-public class UserAlreadyExistsException extends RuntimeException {
+import br.com.confidence.exception.BusinessException;
+
+public class UserAlreadyExistsException extends BusinessException {
     public UserAlreadyExistsException(String message) {
         super(message);
     }
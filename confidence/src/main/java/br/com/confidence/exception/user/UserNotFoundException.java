@@ -1,6 +1,8 @@
 package br.com.confidence.exception.user;
 
-public class UserNotFoundException extends RuntimeException {
+import br.com.confidence.exception.BusinessException;
+
+public class UserNotFoundException extends BusinessException {
     public UserNotFoundException(String message) {
         super(message);
     }
@@ -0,0 +1,124 @@
+package br.com.confidence.jfr;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+
+@Component
+@Endpoint(id = "jfr")
+public class JfrRecordingEndpoint {
+
+    private static final String AUTH_SETTINGS = "jfr/auth.jfc";
+
+    @Value("${app.jfr.base-settings:default}")
+    private String baseSettings;
+
+    @Value("${app.jfr.max-age:PT30M}")
+    private Duration maxAge;
+
+    @Value("${app.jfr.max-size:100MB}")
+    private DataSize maxSize;
+
+    @Value("${app.jfr.dump-dir:${java.io.tmpdir}}")
+    private Path dumpDir;
+
+    private final Lock lock = new ReentrantLock();
+
+    private Recording recording;
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        lock.lock();
+        try {
+            Map<String, Object> status = new LinkedHashMap<>();
+            status.put("state", recording == null ? "NONE" : recording.getState().name());
+            if (recording != null) {
+                status.put("startTime", recording.getStartTime());
+                status.put("size", recording.getSize());
+            }
+            return status;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @WriteOperation
+    public Map<String, Object> control(@Selector String action) throws IOException, ParseException {
+        lock.lock();
+        try {
+            switch (action) {
+                case "start" -> start();
+                case "stop" -> stop();
+                case "dump" -> {
+                    Map<String, Object> status = status();
+                    status.put("file", dump().toString());
+                    return status;
+                }
+                default -> throw new IllegalArgumentException("Unknown action: " + action);
+            }
+            return status();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void start() throws IOException, ParseException {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            return;
+        }
+
+        Map<String, String> settings = new HashMap<>(Configuration.getConfiguration(baseSettings).getSettings());
+        try (Reader reader = new InputStreamReader(new ClassPathResource(AUTH_SETTINGS).getInputStream(), StandardCharsets.UTF_8)) {
+            settings.putAll(Configuration.create(reader).getSettings());
+        }
+
+        recording = new Recording(settings);
+        recording.setName("confidence-auth");
+        recording.setToDisk(true);
+        recording.setMaxAge(maxAge);
+        recording.setMaxSize(maxSize.toBytes());
+        recording.start();
+    }
+
+    private void stop() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    private Path dump() throws IOException {
+        if (recording == null || recording.getState() != RecordingState.RUNNING) {
+            throw new IllegalStateException("No JFR recording is running");
+        }
+
+        Files.createDirectories(dumpDir);
+        Path file = dumpDir.resolve("confidence-auth-" + Instant.now().toEpochMilli() + ".jfr");
+        recording.dump(file);
+        return file;
+    }
+}
@@ -0,0 +1,26 @@
+package br.com.confidence.jfr.auth;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+@Category({ "Confidence", "Auth" })
+@StackTrace(false)
+public abstract class AuthEvent extends Event {
+
+    @Label("Outcome")
+    String outcome;
+
+    @Label("Failure Reason")
+    String reason;
+
+    public void succeeded() {
+        outcome = "success";
+    }
+
+    public void failed(Throwable ex) {
+        outcome = "failure";
+        reason = ex.getClass().getSimpleName();
+    }
+}
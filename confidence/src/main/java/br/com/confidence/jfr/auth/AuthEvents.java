@@ -0,0 +1,34 @@
+package br.com.confidence.jfr.auth;
+
+import java.util.function.Supplier;
+
+public final class AuthEvents {
+
+    private AuthEvents() {
+    }
+
+    public static <T> T record(AuthEvent event, Supplier<T> action) {
+        if (!event.isEnabled()) {
+            return action.get();
+        }
+
+        event.begin();
+        try {
+            T result = action.get();
+            event.succeeded();
+            return result;
+        } catch (RuntimeException ex) {
+            event.failed(ex);
+            throw ex;
+        } finally {
+            event.commit();
+        }
+    }
+
+    public static void record(AuthEvent event, Runnable action) {
+        record(event, () -> {
+            action.run();
+            return null;
+        });
+    }
+}
@@ -0,0 +1,12 @@
+package br.com.confidence.jfr.auth;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("br.com.confidence.auth.EmailSend")
+@Label("Email Send")
+@Description("Mail delivery through EmailService")
+public class EmailSendEvent extends AuthEvent {
+
+}
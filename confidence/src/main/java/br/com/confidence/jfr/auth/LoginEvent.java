@@ -0,0 +1,12 @@
+package br.com.confidence.jfr.auth;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("br.com.confidence.auth.Login")
+@Label("Login")
+@Description("Authentication through AuthService.login")
+public class LoginEvent extends AuthEvent {
+
+}
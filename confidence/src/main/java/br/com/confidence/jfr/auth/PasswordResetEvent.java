@@ -0,0 +1,18 @@
+package br.com.confidence.jfr.auth;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("br.com.confidence.auth.PasswordReset")
+@Label("Password Reset")
+@Description("Password reset request or confirmation in PasswordRecoveryService")
+public class PasswordResetEvent extends AuthEvent {
+
+    @Label("Operation")
+    String operation;
+
+    public PasswordResetEvent(String operation) {
+        this.operation = operation;
+    }
+}
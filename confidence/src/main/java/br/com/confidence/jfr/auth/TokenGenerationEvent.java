@@ -0,0 +1,12 @@
+package br.com.confidence.jfr.auth;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("br.com.confidence.auth.TokenGeneration")
+@Label("Token Generation")
+@Description("JWT signing in TokenService")
+public class TokenGenerationEvent extends AuthEvent {
+
+}
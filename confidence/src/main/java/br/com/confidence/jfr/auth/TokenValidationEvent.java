@@ -0,0 +1,12 @@
+package br.com.confidence.jfr.auth;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("br.com.confidence.auth.TokenValidation")
+@Label("Token Validation")
+@Description("JWT verification in TokenService")
+public class TokenValidationEvent extends AuthEvent {
+
+}
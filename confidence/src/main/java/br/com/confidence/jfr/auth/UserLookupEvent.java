@@ -0,0 +1,18 @@
+package br.com.confidence.jfr.auth;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("br.com.confidence.auth.UserLookup")
+@Label("User Lookup")
+@Description("User lookup by email during login or request authentication")
+public class UserLookupEvent extends AuthEvent {
+
+    @Label("Source")
+    String source;
+
+    public UserLookupEvent(String source) {
+        this.source = source;
+    }
+}
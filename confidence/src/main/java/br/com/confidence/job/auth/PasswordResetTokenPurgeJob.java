@@ -0,0 +1,79 @@
+package br.com.confidence.job.auth;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import br.com.confidence.repository.auth.PasswordResetTokenRepository;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+
+@Component
+public class PasswordResetTokenPurgeJob {
+
+    private static final Logger log = LoggerFactory.getLogger(PasswordResetTokenPurgeJob.class);
+
+    private final PasswordResetTokenRepository tokenRepository;
+
+    @Value("${app.auth.password-reset.purge.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.auth.password-reset.purge.max-batches-per-run:200}")
+    private int maxBatchesPerRun;
+
+    @Value("${app.auth.password-reset.purge.pause-between-batches-ms:100}")
+    private long pauseBetweenBatchesMs;
+
+    public PasswordResetTokenPurgeJob(PasswordResetTokenRepository tokenRepository) {
+        this.tokenRepository = tokenRepository;
+    }
+
+    @Scheduled(cron = "${app.auth.password-reset.purge.cron:0 */15 * * * *}")
+    @SchedulerLock(name = "passwordResetTokenPurge", lockAtMostFor = "PT10M", lockAtLeastFor = "PT30S")
+    public void purgeExpiredTokens() {
+        int purged = deleteExpiredTokens();
+        if (purged > 0) {
+            log.info("Purged {} expired password reset tokens", purged);
+        }
+    }
+
+    public int deleteExpiredTokens() {
+        LocalDateTime now = LocalDateTime.now();
+        int purged = 0;
+
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            List<Long> expiredIds = tokenRepository.findExpiredTokenIds(now, PageRequest.of(0, batchSize));
+            if (expiredIds.isEmpty()) {
+                break;
+            }
+
+            tokenRepository.deleteAllByIdInBatch(expiredIds);
+            purged += expiredIds.size();
+
+            if (expiredIds.size() < batchSize || !pauseBetweenBatches()) {
+                break;
+            }
+        }
+
+        return purged;
+    }
+
+    private boolean pauseBetweenBatches() {
+        if (pauseBetweenBatchesMs <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseBetweenBatchesMs);
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+}
@@ -0,0 +1,161 @@
+package br.com.confidence.job.role;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import br.com.confidence.model.role.RoleDeletionJob;
+import br.com.confidence.model.role.RoleDeletionStatus;
+import br.com.confidence.repository.role.RoleDeletionJobRepository;
+import br.com.confidence.repository.role.RoleRepository;
+import br.com.confidence.security.AccessClosureRegistry;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+
+@Component
+public class RoleDeletionJobWorker {
+
+    private static final Logger log = LoggerFactory.getLogger(RoleDeletionJobWorker.class);
+
+    private final RoleDeletionJobRepository jobRepository;
+    private final RoleRepository roleRepository;
+    private final AccessClosureRegistry accessClosures;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.roles.deletion.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${app.roles.deletion.max-batches-per-run:200}")
+    private int maxBatchesPerRun;
+
+    @Value("${app.roles.deletion.pause-between-batches-ms:50}")
+    private long pauseBetweenBatchesMs;
+
+    public RoleDeletionJobWorker(RoleDeletionJobRepository jobRepository, RoleRepository roleRepository,
+            AccessClosureRegistry accessClosures, PlatformTransactionManager transactionManager) {
+        this.jobRepository = jobRepository;
+        this.roleRepository = roleRepository;
+        this.accessClosures = accessClosures;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(fixedDelayString = "${app.roles.deletion.poll-interval-ms:5000}",
+            initialDelayString = "${app.roles.deletion.poll-interval-ms:5000}")
+    @SchedulerLock(name = "roleDeletionJobs", lockAtMostFor = "PT10M", lockAtLeastFor = "PT1S")
+    public void processPendingJobs() {
+        int processed = runPendingJobs();
+        if (processed > 0) {
+            log.info("Unlinked {} users from roles being deleted", processed);
+        }
+    }
+
+    public int runPendingJobs() {
+        List<Long> jobIds = jobRepository.findIdsByStatusIn(EnumSet.of(RoleDeletionStatus.PENDING, RoleDeletionStatus.RUNNING));
+        int processed = 0;
+        int budget = maxBatchesPerRun;
+
+        for (Long jobId : jobIds) {
+            RoleDeletionJob job = jobRepository.findById(jobId).orElse(null);
+            if (job == null || !job.getStatus().isActive()) {
+                continue;
+            }
+            try {
+                BatchResult result = unlinkUsers(job, budget);
+                processed += result.processed();
+                budget -= result.batches();
+                if (result.drained()) {
+                    complete(job);
+                }
+            } catch (RuntimeException ex) {
+                log.warn("Role deletion job {} for role {} failed", jobId, job.getRoleId(), ex);
+                fail(job, ex);
+            }
+            if (budget <= 0 || Thread.currentThread().isInterrupted()) {
+                break;
+            }
+        }
+
+        return processed;
+    }
+
+    private BatchResult unlinkUsers(RoleDeletionJob job, int budget) {
+        long roleId = job.getRoleId();
+        Long replacementRoleId = job.getReplacementRoleId();
+        int processed = 0;
+
+        for (int batch = 0; batch < budget; batch++) {
+            int unlinked = transactionTemplate.execute(status -> {
+                List<Long> userIds = roleRepository.findUserIdsWithRole(roleId, batchSize);
+                if (userIds.isEmpty()) {
+                    return 0;
+                }
+                roleRepository.bumpTokenVersionOfUsersWithRole(roleId, userIds);
+                if (replacementRoleId != null) {
+                    roleRepository.assignRoleToUsers(replacementRoleId, userIds);
+                }
+                int removed = roleRepository.revokeRoleFromUsers(roleId, userIds);
+                jobRepository.recordProgress(job.getId(), removed, RoleDeletionStatus.RUNNING, LocalDateTime.now());
+                return removed;
+            });
+            processed += unlinked;
+
+            if (unlinked < batchSize) {
+                return new BatchResult(processed, batch + 1, true);
+            }
+            if (!pauseBetweenBatches()) {
+                return new BatchResult(processed, batch + 1, false);
+            }
+        }
+
+        return new BatchResult(processed, budget, false);
+    }
+
+    private void complete(RoleDeletionJob job) {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (roleRepository.countUsersWithRole(job.getRoleId()) > 0) {
+                return;
+            }
+            roleRepository.findById(job.getRoleId()).ifPresent(roleRepository::delete);
+            accessClosures.invalidate();
+
+            RoleDeletionJob current = jobRepository.findById(job.getId()).orElseThrow();
+            LocalDateTime now = LocalDateTime.now();
+            current.setStatus(RoleDeletionStatus.COMPLETED);
+            current.setUpdatedAt(now);
+            current.setCompletedAt(now);
+        });
+    }
+
+    private void fail(RoleDeletionJob job, RuntimeException ex) {
+        transactionTemplate.executeWithoutResult(status -> jobRepository.findById(job.getId()).ifPresent(current -> {
+            String message = String.valueOf(ex.getMessage());
+            current.setStatus(RoleDeletionStatus.FAILED);
+            current.setErrorMessage(message.length() > 255 ? message.substring(0, 255) : message);
+            current.setUpdatedAt(LocalDateTime.now());
+        }));
+    }
+
+    private boolean pauseBetweenBatches() {
+        if (pauseBetweenBatchesMs <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseBetweenBatchesMs);
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private record BatchResult(int processed, int batches, boolean drained) {
+    }
+
+}
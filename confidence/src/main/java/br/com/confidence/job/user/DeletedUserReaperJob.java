@@ -0,0 +1,92 @@
+package br.com.confidence.job.user;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import br.com.confidence.model.user.User;
+import br.com.confidence.repository.auth.PasswordResetTokenRepository;
+import br.com.confidence.repository.user.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+
+@Component
+public class DeletedUserReaperJob {
+
+    private static final Logger log = LoggerFactory.getLogger(DeletedUserReaperJob.class);
+
+    private final UserRepository userRepository;
+    private final PasswordResetTokenRepository tokenRepository;
+    private final EntityManagerFactory entityManagerFactory;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.users.reaper.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.users.reaper.max-batches-per-run:200}")
+    private int maxBatchesPerRun;
+
+    @Value("${app.users.reaper.pause-between-batches-ms:100}")
+    private long pauseBetweenBatchesMs;
+
+    public DeletedUserReaperJob(UserRepository userRepository, PasswordResetTokenRepository tokenRepository,
+            EntityManagerFactory entityManagerFactory, PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.tokenRepository = tokenRepository;
+        this.entityManagerFactory = entityManagerFactory;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(cron = "${app.users.reaper.cron:30 * * * * *}")
+    @SchedulerLock(name = "deletedUserReaper", lockAtMostFor = "PT10M", lockAtLeastFor = "PT30S")
+    public void reapDeletedUsers() {
+        int reaped = hardDeleteSoftDeletedUsers();
+        if (reaped > 0) {
+            log.info("Hard-deleted {} soft-deleted users", reaped);
+        }
+    }
+
+    public int hardDeleteSoftDeletedUsers() {
+        int reaped = 0;
+
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            List<Long> userIds = userRepository.findSoftDeletedUserIds(batchSize);
+            if (userIds.isEmpty()) {
+                break;
+            }
+
+            reaped += transactionTemplate.execute(status -> {
+                tokenRepository.deleteByUserIdIn(userIds);
+                userRepository.deleteRoleLinks(userIds);
+                return userRepository.hardDeleteSoftDeleted(userIds);
+            });
+            userIds.forEach(id -> entityManagerFactory.getCache().evict(User.class, id));
+
+            if (userIds.size() < batchSize || !pauseBetweenBatches()) {
+                break;
+            }
+        }
+
+        return reaped;
+    }
+
+    private boolean pauseBetweenBatches() {
+        if (pauseBetweenBatchesMs <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseBetweenBatchesMs);
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+}
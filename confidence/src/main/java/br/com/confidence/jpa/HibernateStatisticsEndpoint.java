@@ -0,0 +1,99 @@
+package br.com.confidence.jpa;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.QueryStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@Component
+@Endpoint(id = "hibernate")
+public class HibernateStatisticsEndpoint {
+
+    private final Statistics statistics;
+
+    @Value("${app.jpa.statistics.top-queries:20}")
+    private int topQueries;
+
+    public HibernateStatisticsEndpoint(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @ReadOperation
+    public StatisticsReport report() {
+        List<QueryReport> queries = Arrays.stream(statistics.getQueries())
+                .map(query -> QueryReport.of(query, statistics.getQueryStatistics(query)))
+                .sorted(Comparator.comparingLong(QueryReport::totalTimeMs).reversed())
+                .limit(topQueries)
+                .toList();
+
+        return new StatisticsReport(
+                statistics.isStatisticsEnabled(),
+                statistics.getStart(),
+                statistics.getPrepareStatementCount(),
+                statistics.getQueryExecutionCount(),
+                statistics.getQueryExecutionMaxTime(),
+                statistics.getQueryExecutionMaxTimeQueryString(),
+                new EntityReport(
+                        statistics.getEntityLoadCount(),
+                        statistics.getEntityFetchCount(),
+                        statistics.getEntityInsertCount(),
+                        statistics.getEntityUpdateCount(),
+                        statistics.getEntityDeleteCount(),
+                        statistics.getCollectionLoadCount(),
+                        statistics.getCollectionFetchCount()),
+                new CacheReport(
+                        statistics.getSecondLevelCacheHitCount(),
+                        statistics.getSecondLevelCacheMissCount(),
+                        statistics.getSecondLevelCachePutCount(),
+                        ratio(statistics.getSecondLevelCacheHitCount(), statistics.getSecondLevelCacheMissCount())),
+                new CacheReport(
+                        statistics.getQueryCacheHitCount(),
+                        statistics.getQueryCacheMissCount(),
+                        statistics.getQueryCachePutCount(),
+                        ratio(statistics.getQueryCacheHitCount(), statistics.getQueryCacheMissCount())),
+                queries);
+    }
+
+    @DeleteOperation
+    public void clear() {
+        statistics.clear();
+    }
+
+    private static double ratio(long hits, long misses) {
+        long total = hits + misses;
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
+    public record StatisticsReport(boolean enabled, Instant since, long preparedStatements, long queryExecutions,
+            long queryExecutionMaxTimeMs, String slowestQuery, EntityReport entities, CacheReport secondLevelCache,
+            CacheReport queryCache, List<QueryReport> queries) {
+    }
+
+    public record EntityReport(long loads, long fetches, long inserts, long updates, long deletes,
+            long collectionLoads, long collectionFetches) {
+    }
+
+    public record CacheReport(long hits, long misses, long puts, double hitRatio) {
+    }
+
+    public record QueryReport(String query, long executions, long rows, long totalTimeMs, long meanTimeMs,
+            long maxTimeMs) {
+
+        static QueryReport of(String query, QueryStatistics statistics) {
+            return new QueryReport(query, statistics.getExecutionCount(), statistics.getExecutionRowCount(),
+                    statistics.getExecutionTotalTime(), statistics.getExecutionAvgTime(),
+                    statistics.getExecutionMaxTime());
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package br.com.confidence.mapper.permission;
+
+import java.util.List;
+
+import br.com.confidence.dto.permission.PermissionRequest;
+import br.com.confidence.dto.permission.PermissionResponse;
+import br.com.confidence.model.permission.Permission;
+
+public final class PermissionMapper {
+
+    private PermissionMapper() {}
+
+    public static Permission toEntity(PermissionRequest permissionRequest) {
+        Permission permission = new Permission();
+        permission.setName(permissionRequest.name());
+        permission.setDescription(permissionRequest.description());
+        return permission;
+    }
+
+    public static PermissionResponse toResponse(Permission permission) {
+        return new PermissionResponse(
+            permission.getId(),
+            permission.getName(),
+            permission.getDescription()
+        );
+    }
+
+    public static List<PermissionResponse> toResponse(List<Permission> permissions) {
+        return permissions.stream()
+                    .map(PermissionMapper::toResponse)
+                    .toList();
+    }
+
+}
@@ -0,0 +1,25 @@
+package br.com.confidence.mapper.role;
+
+import br.com.confidence.dto.role.RoleDeletionJobResponse;
+import br.com.confidence.model.role.RoleDeletionJob;
+
+public final class RoleDeletionJobMapper {
+
+    private RoleDeletionJobMapper() {}
+
+    public static RoleDeletionJobResponse toResponse(RoleDeletionJob job) {
+        return new RoleDeletionJobResponse(
+            job.getId(),
+            job.getRoleId(),
+            job.getReplacementRoleId(),
+            job.getStatus(),
+            job.getTotalUsers(),
+            job.getProcessedUsers(),
+            job.getErrorMessage(),
+            job.getCreatedAt(),
+            job.getUpdatedAt(),
+            job.getCompletedAt()
+        );
+    }
+
+}
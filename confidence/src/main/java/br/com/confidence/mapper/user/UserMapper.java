@@ -7,6 +7,7 @@ import br.com.confidence.dto.user.UserRequest;
 import br.com.confidence.dto.user.UserResponse;
 import br.com.confidence.mapper.role.RoleMapper;
 import br.com.confidence.model.user.User;
+import br.com.confidence.normalizer.user.EmailNormalizer;
 
 public final class UserMapper {
 
@@ -15,7 +16,7 @@ public final class UserMapper {
     public static User toEntity(UserRequest userRequest) {
         User user = new User();
         user.setName(userRequest.name());
-        user.setEmail(userRequest.email());
+        user.setEmail(EmailNormalizer.canonicalize(userRequest.email()));
         user.setPassword(userRequest.password());
         return user;
     }
@@ -0,0 +1,159 @@
+package br.com.confidence.metrics.auth;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.springframework.security.authentication.AccountStatusException;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import br.com.confidence.exception.auth.PasswordResetTokenExpiredException;
+import br.com.confidence.exception.user.InvalidUserEmailException;
+import br.com.confidence.exception.user.InvalidUserPasswordException;
+import br.com.confidence.exception.user.InvalidUsernameException;
+import br.com.confidence.exception.user.UserAlreadyExistsException;
+import br.com.confidence.exception.user.UserNotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+@Component
+public class AuthMetrics {
+
+    public static final String LOGIN = "auth.login";
+    public static final String LOGIN_STAGE = "auth.login.stage";
+    public static final String FILTER_STAGE = "auth.filter.stage";
+    public static final String PASSWORD_HASH = "auth.password.hash";
+    public static final String REGISTER = "auth.register";
+    public static final String PASSWORD_RESET = "auth.password-reset";
+    public static final String ASYNC_FAILURE = "auth.async.failures";
+
+    private static final String SUCCESS = "success";
+    private static final String FAILURE = "failure";
+    private static final String NONE = "none";
+
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+    public AuthMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public <T> T recordLogin(Supplier<T> action) {
+        return record(LOGIN, null, null, action);
+    }
+
+    public <T> T recordLoginStage(String stage, Supplier<T> action) {
+        return record(LOGIN_STAGE, "stage", stage, action);
+    }
+
+    public <T> T recordFilterStage(String stage, Supplier<T> action) {
+        return record(FILTER_STAGE, "stage", stage, action);
+    }
+
+    public <T> T recordTokenValidation(Supplier<T> action, Predicate<? super T> isValid) {
+        long start = System.nanoTime();
+        T result = action.get();
+        boolean valid = isValid.test(result);
+        timer(FILTER_STAGE, "stage", "token_validate", valid ? SUCCESS : FAILURE, valid ? NONE : "invalid_token")
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return result;
+    }
+
+    public <T> T recordRegistration(Supplier<T> action) {
+        return record(REGISTER, null, null, action);
+    }
+
+    public void recordAsyncFailure(String method, Throwable failure) {
+        meterRegistry.counter(ASYNC_FAILURE, "method", method, "exception", failure.getClass().getSimpleName())
+                .increment();
+    }
+
+    public void recordPasswordReset(String operation, Runnable action) {
+        record(PASSWORD_RESET, "operation", operation, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    public PasswordEncoder timed(PasswordEncoder delegate) {
+        return new PasswordEncoder() {
+
+            @Override
+            public String encode(CharSequence rawPassword) {
+                return record(PASSWORD_HASH, "operation", "encode", () -> delegate.encode(rawPassword));
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                long start = System.nanoTime();
+                boolean matches = delegate.matches(rawPassword, encodedPassword);
+                timer(PASSWORD_HASH, "operation", "matches", matches ? SUCCESS : FAILURE, matches ? NONE : "mismatch")
+                        .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                return matches;
+            }
+
+            @Override
+            public boolean upgradeEncoding(String encodedPassword) {
+                return delegate.upgradeEncoding(encodedPassword);
+            }
+        };
+    }
+
+    private <T> T record(String name, String tagKey, String tagValue, Supplier<T> action) {
+        long start = System.nanoTime();
+        try {
+            T result = action.get();
+            timer(name, tagKey, tagValue, SUCCESS, NONE).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (RuntimeException ex) {
+            timer(name, tagKey, tagValue, FAILURE, reason(ex)).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw ex;
+        }
+    }
+
+    // Registered once per tag combination; the hot paths only pay for a map lookup per sample
+    private Timer timer(String name, String tagKey, String tagValue, String outcome, String reason) {
+        return timers.computeIfAbsent(new TimerKey(name, tagKey, tagValue, outcome, reason), key -> {
+            Timer.Builder builder = Timer.builder(key.name())
+                    .tag("outcome", key.outcome())
+                    .tag("reason", key.reason());
+            if (key.tagKey() != null) {
+                builder.tag(key.tagKey(), key.tagValue());
+            }
+            return builder.register(meterRegistry);
+        });
+    }
+
+    private record TimerKey(String name, String tagKey, String tagValue, String outcome, String reason) {
+    }
+
+    private static String reason(RuntimeException ex) {
+        if (ex instanceof BadCredentialsException) {
+            return "bad_credentials";
+        }
+        if (ex instanceof AccountStatusException) {
+            return "account_unavailable";
+        }
+        if (ex instanceof UsernameNotFoundException || ex instanceof UserNotFoundException) {
+            return "user_not_found";
+        }
+        if (ex instanceof UserAlreadyExistsException) {
+            return "duplicate_email";
+        }
+        if (ex instanceof PasswordResetTokenExpiredException) {
+            return "token_expired";
+        }
+        if (ex instanceof InvalidUserPasswordException) {
+            return "invalid_password";
+        }
+        if (ex instanceof InvalidUserEmailException || ex instanceof InvalidUsernameException) {
+            return "invalid_input";
+        }
+        return "error";
+    }
+}
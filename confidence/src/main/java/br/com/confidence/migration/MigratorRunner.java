@@ -0,0 +1,40 @@
+package br.com.confidence.migration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "app.schema.mode", havingValue = "migrator")
+public class MigratorRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(MigratorRunner.class);
+
+    private final ConfigurableApplicationContext context;
+
+    @Value("${app.schema.migrator.exit-on-finish:true}")
+    private boolean exitOnFinish;
+
+    public MigratorRunner(ConfigurableApplicationContext context) {
+        this.context = context;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        log.info("Schema migrated and fingerprint recorded");
+
+        if (exitOnFinish) {
+            System.exit(SpringApplication.exit(context));
+        }
+    }
+
+}
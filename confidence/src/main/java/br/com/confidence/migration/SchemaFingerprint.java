@@ -0,0 +1,108 @@
+package br.com.confidence.migration;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+
+import org.flywaydb.core.api.Location;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class SchemaFingerprint {
+
+    private static final int ROW_ID = 1;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
+
+    public SchemaFingerprint(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public Snapshot compute(Location... locations) {
+        List<Script> scripts = Arrays.stream(locations)
+                .filter(Location::isClassPath)
+                .flatMap(location -> resolve(location).stream())
+                .sorted(Comparator.comparing(Script::path))
+                .toList();
+
+        MessageDigest digest = sha256();
+        for (Script script : scripts) {
+            digest.update(script.path().getBytes(StandardCharsets.UTF_8));
+            try (InputStream in = script.resource().getInputStream()) {
+                digest.update(in.readAllBytes());
+            } catch (IOException ex) {
+                throw new UncheckedIOException("Could not read migration script " + script.path(), ex);
+            }
+        }
+
+        return new Snapshot(HexFormat.of().formatHex(digest.digest()), scripts.size());
+    }
+
+    public Optional<Snapshot> stored() {
+        return jdbcTemplate.query("SELECT checksum, script_count FROM schema_fingerprint WHERE id = ?",
+                (rs, rowNum) -> new Snapshot(rs.getString("checksum"), rs.getInt("script_count")), ROW_ID)
+                .stream()
+                .findFirst();
+    }
+
+    public void store(Snapshot snapshot) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int updated = jdbcTemplate.update(
+                "UPDATE schema_fingerprint SET checksum = ?, script_count = ?, updated_at = ? WHERE id = ?",
+                snapshot.checksum(), snapshot.scriptCount(), now, ROW_ID);
+        if (updated == 0) {
+            jdbcTemplate.update(
+                    "INSERT INTO schema_fingerprint (id, checksum, script_count, updated_at) VALUES (?, ?, ?, ?)",
+                    ROW_ID, snapshot.checksum(), snapshot.scriptCount(), now);
+        }
+    }
+
+    private List<Script> resolve(Location location) {
+        String root = location.getRootPath() + "/";
+        try {
+            return Arrays.stream(resolver.getResources("classpath*:" + root + "**/*.sql"))
+                    .map(resource -> new Script(relativePath(resource, root), resource))
+                    .toList();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not list migration scripts in " + location, ex);
+        }
+    }
+
+    private static String relativePath(Resource resource, String root) {
+        try {
+            String url = resource.getURL().toString();
+            int start = url.lastIndexOf(root);
+            return start < 0 ? resource.getFilename() : url.substring(start);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not locate migration script " + resource.getFilename(), ex);
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    public record Snapshot(String checksum, int scriptCount) {
+    }
+
+    private record Script(String path, Resource resource) {
+    }
+
+}
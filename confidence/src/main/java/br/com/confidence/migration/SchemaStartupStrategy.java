@@ -0,0 +1,76 @@
+package br.com.confidence.migration;
+
+import org.flywaydb.core.Flyway;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import br.com.confidence.migration.SchemaFingerprint.Snapshot;
+
+@Component
+public class SchemaStartupStrategy implements FlywayMigrationStrategy {
+
+    private static final Logger log = LoggerFactory.getLogger(SchemaStartupStrategy.class);
+
+    public enum Mode {
+        MIGRATE, MIGRATOR, VERIFY
+    }
+
+    private final ApplicationStartup applicationStartup;
+    private final Mode mode;
+
+    public SchemaStartupStrategy(ApplicationStartup applicationStartup,
+            @Value("${app.schema.mode:migrate}") Mode mode) {
+        this.applicationStartup = applicationStartup;
+        this.mode = mode;
+    }
+
+    public Mode mode() {
+        return mode;
+    }
+
+    @Override
+    public void migrate(Flyway flyway) {
+        SchemaFingerprint fingerprint = new SchemaFingerprint(new JdbcTemplate(flyway.getConfiguration().getDataSource()));
+
+        StartupStep step = applicationStartup.start("app.schema." + mode.name().toLowerCase());
+        try {
+            Snapshot expected = fingerprint.compute(flyway.getConfiguration().getLocations());
+            step.tag("scripts", String.valueOf(expected.scriptCount()));
+
+            if (mode == Mode.VERIFY) {
+                verify(fingerprint, expected);
+            } else {
+                int applied = flyway.migrate().migrationsExecuted;
+                step.tag("applied", String.valueOf(applied));
+                if (!fingerprint.stored().filter(expected::equals).isPresent()) {
+                    fingerprint.store(expected);
+                }
+            }
+        } finally {
+            step.end();
+        }
+    }
+
+    private void verify(SchemaFingerprint fingerprint, Snapshot expected) {
+        Snapshot stored = fingerprint.stored()
+                .orElseThrow(() -> new IllegalStateException(
+                        "No schema fingerprint recorded; run the migrator with app.schema.mode=migrator first"));
+
+        if (!stored.equals(expected)) {
+            throw new IllegalStateException("Schema fingerprint mismatch: database was migrated with "
+                    + stored.scriptCount() + " scripts (" + stored.checksum() + ") but this build ships "
+                    + expected.scriptCount() + " scripts (" + expected.checksum()
+                    + "); run the migrator with app.schema.mode=migrator");
+        }
+
+        log.info("Schema fingerprint verified ({} migration scripts), skipping Flyway validation",
+                expected.scriptCount());
+    }
+
+}
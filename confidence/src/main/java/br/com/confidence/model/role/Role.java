@@ -1,17 +1,23 @@
 package br.com.confidence.model.role;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.springframework.security.core.GrantedAuthority;
 
+import br.com.confidence.model.permission.Permission;
 import br.com.confidence.model.user.User;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.Table;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -39,8 +45,32 @@ public class Role implements GrantedAuthority{
     @ManyToMany(mappedBy = "roles")
     private List<User> users;
 
+    @ManyToMany
+    @JoinTable(name = "role_permission",
+            joinColumns = @JoinColumn(name = "role_id"),
+            inverseJoinColumns = @JoinColumn(name = "permission_id"))
+    private Set<Permission> permissions = new HashSet<>();
+
+    @ManyToMany
+    @JoinTable(name = "role_hierarchy",
+            joinColumns = @JoinColumn(name = "parent_role_id"),
+            inverseJoinColumns = @JoinColumn(name = "child_role_id"))
+    private Set<Role> includedRoles = new HashSet<>();
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private transient CachedAuthority authority;
+
     @Override
     public String getAuthority() {
-        return "ROLE_" + name;
+        CachedAuthority cached = authority;
+        if (cached == null || cached.name() != name) {
+            cached = new CachedAuthority(name, "ROLE_" + name);
+            authority = cached;
+        }
+        return cached.value();
+    }
+
+    private record CachedAuthority(String name, String value) {
     }
 }
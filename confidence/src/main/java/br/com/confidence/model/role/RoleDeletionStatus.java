@@ -0,0 +1,14 @@
+package br.com.confidence.model.role;
+
+public enum RoleDeletionStatus {
+
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED;
+
+    public boolean isActive() {
+        return this == PENDING || this == RUNNING;
+    }
+
+}
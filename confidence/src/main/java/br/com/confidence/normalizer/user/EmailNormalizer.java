@@ -0,0 +1,26 @@
+package br.com.confidence.normalizer.user;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+public final class EmailNormalizer {
+
+    private EmailNormalizer() {}
+
+    public static String canonicalize(String email) {
+        if (email == null) {
+            return null;
+        }
+        String trimmed = email.strip();
+        if (Normalizer.isNormalized(trimmed, Normalizer.Form.NFKC)) {
+            return trimmed;
+        }
+        return Normalizer.normalize(trimmed, Normalizer.Form.NFKC);
+    }
+
+    public static String normalize(String email) {
+        String canonical = canonicalize(email);
+        return canonical == null ? null : canonical.toLowerCase(Locale.ROOT);
+    }
+
+}
@@ -1,11 +1,17 @@
 package br.com.confidence.repository.auth;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import br.com.confidence.model.auth.PasswordResetToken;
 
@@ -14,7 +20,30 @@ public interface PasswordResetTokenRepository extends JpaRepository<PasswordRese
 
     Optional<PasswordResetToken> findByToken(String token);
 
-    @Query("select t from PasswordResetToken t join fetch t.user where t.token = :token")
+    @Query("select t from PasswordResetToken t join fetch t.user u left join fetch u.roles where t.token = :token")
     Optional<PasswordResetToken> findByTokenWithUser(@Param("token") String token);
 
+    @Transactional
+    @Modifying
+    @Query("delete from PasswordResetToken t where t.token = :token")
+    int deleteByToken(@Param("token") String token);
+
+    @Transactional
+    @Modifying
+    @Query("update PasswordResetToken t set t.token = :token, t.expiryDate = :expiryDate where t.user.id = :userId")
+    int replaceTokenForUser(@Param("userId") long userId, @Param("token") String token,
+            @Param("expiryDate") LocalDateTime expiryDate);
+
+    @Query("select t.id from PasswordResetToken t where t.expiryDate < :now order by t.expiryDate")
+    List<Long> findExpiredTokenIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("delete from PasswordResetToken t where t.user.id = :userId")
+    int deleteByUserId(@Param("userId") long userId);
+
+    @Modifying
+    @Query(value = "DELETE FROM password_reset_tokens WHERE user_id IN (:userIds)", nativeQuery = true)
+    int deleteByUserIdIn(@Param("userIds") Collection<Long> userIds);
+
 }
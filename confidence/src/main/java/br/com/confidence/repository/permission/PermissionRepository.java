@@ -0,0 +1,16 @@
+package br.com.confidence.repository.permission;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import br.com.confidence.model.permission.Permission;
+
+@Repository
+public interface PermissionRepository extends JpaRepository<Permission, Long> {
+
+    Optional<Permission> findByName(String name);
+    boolean existsByName(String name);
+
+}
@@ -0,0 +1,31 @@
+package br.com.confidence.repository.role;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import br.com.confidence.model.role.RoleDeletionJob;
+import br.com.confidence.model.role.RoleDeletionStatus;
+
+@Repository
+public interface RoleDeletionJobRepository extends JpaRepository<RoleDeletionJob, Long> {
+
+    Optional<RoleDeletionJob> findFirstByRoleIdAndStatusIn(long roleId, Collection<RoleDeletionStatus> statuses);
+
+    @Query("SELECT j.id FROM RoleDeletionJob j WHERE j.status IN :statuses ORDER BY j.id")
+    List<Long> findIdsByStatusIn(@Param("statuses") Collection<RoleDeletionStatus> statuses);
+
+    @Modifying
+    @Query("UPDATE RoleDeletionJob j SET j.processedUsers = j.processedUsers + :processed, j.status = :status, "
+            + "j.updatedAt = :now WHERE j.id = :id")
+    int recordProgress(@Param("id") long id, @Param("processed") long processed,
+            @Param("status") RoleDeletionStatus status, @Param("now") LocalDateTime now);
+
+}
@@ -0,0 +1,8 @@
+package br.com.confidence.repository.role;
+
+public interface RoleEdge {
+
+    String getSource();
+    String getTarget();
+
+}
@@ -1,8 +1,12 @@
 package br.com.confidence.repository.role;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import br.com.confidence.model.role.Role;
@@ -15,4 +19,46 @@ public interface RoleRepository extends JpaRepository<Role, Long> {
     boolean existsByName(String name);
     long countByName(String name);
 
+    @Query("SELECT r.name FROM Role r")
+    List<String> findAllNames();
+
+    @Query("SELECT r.name AS source, c.name AS target FROM Role r JOIN r.includedRoles c")
+    List<RoleEdge> findRoleInclusions();
+
+    @Query("SELECT r.name AS source, p.name AS target FROM Role r JOIN r.permissions p")
+    List<RoleEdge> findRolePermissions();
+
+    @Modifying
+    @Query(value = "UPDATE users SET token_version = token_version + 1 "
+            + "WHERE id IN (:userIds) AND deleted_at IS NULL "
+            + "AND NOT EXISTS (SELECT 1 FROM user_role ur WHERE ur.user_id = users.id AND ur.role_id = :roleId)",
+            nativeQuery = true)
+    int bumpTokenVersionOfUsersWithoutRole(@Param("roleId") long roleId, @Param("userIds") Collection<Long> userIds);
+
+    @Modifying
+    @Query(value = "INSERT INTO user_role (user_id, role_id) "
+            + "SELECT u.id, :roleId FROM users u "
+            + "WHERE u.id IN (:userIds) AND u.deleted_at IS NULL "
+            + "AND NOT EXISTS (SELECT 1 FROM user_role ur WHERE ur.user_id = u.id AND ur.role_id = :roleId)",
+            nativeQuery = true)
+    int assignRoleToUsers(@Param("roleId") long roleId, @Param("userIds") Collection<Long> userIds);
+
+    @Modifying
+    @Query(value = "UPDATE users SET token_version = token_version + 1 "
+            + "WHERE id IN (:userIds) "
+            + "AND EXISTS (SELECT 1 FROM user_role ur WHERE ur.user_id = users.id AND ur.role_id = :roleId)",
+            nativeQuery = true)
+    int bumpTokenVersionOfUsersWithRole(@Param("roleId") long roleId, @Param("userIds") Collection<Long> userIds);
+
+    @Query(value = "SELECT user_id FROM user_role WHERE role_id = :roleId ORDER BY user_id LIMIT :limit",
+            nativeQuery = true)
+    List<Long> findUserIdsWithRole(@Param("roleId") long roleId, @Param("limit") int limit);
+
+    @Query(value = "SELECT COUNT(*) FROM user_role WHERE role_id = :roleId", nativeQuery = true)
+    long countUsersWithRole(@Param("roleId") long roleId);
+
+    @Modifying
+    @Query(value = "DELETE FROM user_role WHERE role_id = :roleId AND user_id IN (:userIds)", nativeQuery = true)
+    int revokeRoleFromUsers(@Param("roleId") long roleId, @Param("userIds") Collection<Long> userIds);
+
 }
@@ -1,20 +1,52 @@
 package br.com.confidence.repository.user;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import br.com.confidence.model.user.User;
+import br.com.confidence.normalizer.user.EmailNormalizer;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
 
-    boolean existsByEmail(String email);
-    Optional<User> findByEmail(String email);
+    Optional<User> findByEmailNormalized(String emailNormalized);
+
+    default Optional<User> findByEmail(String email) {
+        return findByEmailNormalized(EmailNormalizer.normalize(email));
+    }
+
     List<User> findByNameContainingIgnoreCase(String username);
     List<User> findByCreatedAtBetween(LocalDateTime startDate, LocalDateTime endDate);
 
+    @Transactional
+    @Modifying
+    @Query("update User u set u.password = :password, u.updatedAt = :updatedAt where u.id = :id")
+    int updatePassword(@Param("id") long id, @Param("password") String password,
+            @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Transactional
+    @Modifying
+    @Query("update User u set u.deletedAt = :deletedAt, u.tokenVersion = u.tokenVersion + 1 where u.id = :id")
+    int softDelete(@Param("id") long id, @Param("deletedAt") LocalDateTime deletedAt);
+
+    @Query(value = "SELECT id FROM users WHERE deleted_at IS NOT NULL ORDER BY id LIMIT :limit", nativeQuery = true)
+    List<Long> findSoftDeletedUserIds(@Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "DELETE FROM user_role WHERE user_id IN (:userIds)", nativeQuery = true)
+    int deleteRoleLinks(@Param("userIds") Collection<Long> userIds);
+
+    @Modifying
+    @Query(value = "DELETE FROM users WHERE id IN (:userIds) AND deleted_at IS NOT NULL", nativeQuery = true)
+    int hardDeleteSoftDeleted(@Param("userIds") Collection<Long> userIds);
+
 }
@@ -0,0 +1,117 @@
+package br.com.confidence.security;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class AccessClosure {
+
+    public static final AccessClosure EMPTY = new AccessClosure(Map.of(), Map.of());
+
+    private static final int MAX_CACHED_GRANTS = 1024;
+
+    private final Map<Integer, Expansion> expansions;
+    private final Map<String, Integer> permissionOrdinals;
+    private final Map<RoleMask, AccessGrant> grants = new ConcurrentHashMap<>();
+
+    private AccessClosure(Map<Integer, Expansion> expansions, Map<String, Integer> permissionOrdinals) {
+        this.expansions = expansions;
+        this.permissionOrdinals = permissionOrdinals;
+    }
+
+    public static AccessClosure compute(RoleOrdinals roleOrdinals, Collection<String> roleNames,
+            Map<String, Set<String>> includedRoles, Map<String, Set<String>> rolePermissions) {
+        Set<String> permissionNames = new TreeSet<>();
+        rolePermissions.values().forEach(permissionNames::addAll);
+
+        Map<String, Integer> permissionOrdinals = new HashMap<>();
+        for (String permission : permissionNames) {
+            permissionOrdinals.put(permission, permissionOrdinals.size());
+        }
+
+        Set<String> allRoles = new TreeSet<>(roleNames);
+        allRoles.addAll(includedRoles.keySet());
+        allRoles.addAll(rolePermissions.keySet());
+
+        Map<Integer, Expansion> expansions = new HashMap<>();
+        for (String role : allRoles) {
+            Set<String> reachable = reachableRoles(role, includedRoles);
+            Set<String> permissions = new TreeSet<>();
+            for (String reached : reachable) {
+                permissions.addAll(rolePermissions.getOrDefault(reached, Set.of()));
+            }
+            RoleMask roleMask = roleOrdinals.maskOf(reachable.toArray(String[]::new));
+            RoleMask permissionMask = RoleMask.of(permissions.stream().mapToInt(permissionOrdinals::get).toArray());
+            expansions.put(roleOrdinals.ordinal(role),
+                    new Expansion(roleMask, permissionMask, List.copyOf(new TreeSet<>(reachable)), List.copyOf(permissions)));
+        }
+
+        return new AccessClosure(Map.copyOf(expansions), Map.copyOf(permissionOrdinals));
+    }
+
+    private static Set<String> reachableRoles(String role, Map<String, Set<String>> includedRoles) {
+        Set<String> reachable = new LinkedHashSet<>();
+        ArrayDeque<String> pending = new ArrayDeque<>();
+        pending.add(role);
+        while (!pending.isEmpty()) {
+            String current = pending.poll();
+            if (reachable.add(current)) {
+                pending.addAll(includedRoles.getOrDefault(current, Set.of()));
+            }
+        }
+        return reachable;
+    }
+
+    public AccessGrant grantFor(RoleMask directRoles) {
+        AccessGrant grant = grants.get(directRoles);
+        if (grant != null) {
+            return grant;
+        }
+
+        RoleMask roles = directRoles;
+        RoleMask permissions = RoleMask.EMPTY;
+        for (int ordinal : directRoles.ordinals()) {
+            Expansion expansion = expansions.get(ordinal);
+            if (expansion != null) {
+                roles = roles.or(expansion.roles());
+                permissions = permissions.or(expansion.permissions());
+            }
+        }
+
+        grant = new AccessGrant(this, roles, permissions);
+        if (grants.size() < MAX_CACHED_GRANTS) {
+            grants.putIfAbsent(directRoles, grant);
+        }
+        return grant;
+    }
+
+    public int permissionOrdinal(String permission) {
+        Integer ordinal = permissionOrdinals.get(permission);
+        return ordinal != null ? ordinal : -1;
+    }
+
+    public boolean includes(RoleOrdinals roleOrdinals, String role, String includedRole) {
+        Expansion expansion = expansions.get(roleOrdinals.ordinal(role));
+        return role.equals(includedRole) || (expansion != null && expansion.roleNames().contains(includedRole));
+    }
+
+    public List<String> effectiveRoles(RoleOrdinals roleOrdinals, String role) {
+        Expansion expansion = expansions.get(roleOrdinals.ordinal(role));
+        return expansion != null ? expansion.roleNames() : List.of(role);
+    }
+
+    public List<String> effectivePermissions(RoleOrdinals roleOrdinals, String role) {
+        Expansion expansion = expansions.get(roleOrdinals.ordinal(role));
+        return expansion != null ? expansion.permissionNames() : List.of();
+    }
+
+    private record Expansion(RoleMask roles, RoleMask permissions, List<String> roleNames, List<String> permissionNames) {
+    }
+
+}
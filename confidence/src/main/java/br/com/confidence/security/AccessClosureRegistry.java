@@ -0,0 +1,105 @@
+package br.com.confidence.security;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import br.com.confidence.repository.role.RoleEdge;
+import br.com.confidence.repository.role.RoleRepository;
+
+@Component
+public class AccessClosureRegistry {
+
+    private final RoleRepository roleRepository;
+    private final RoleOrdinals roleOrdinals;
+    private final TransactionTemplate transactionTemplate;
+    private final AtomicLong generation = new AtomicLong();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    private volatile AccessClosure current;
+
+    public AccessClosureRegistry(RoleRepository roleRepository, RoleOrdinals roleOrdinals,
+            PlatformTransactionManager transactionManager) {
+        this.roleRepository = roleRepository;
+        this.roleOrdinals = roleOrdinals;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    public AccessClosure current() {
+        AccessClosure closure = current;
+        if (closure != null) {
+            return closure;
+        }
+        // One caller rebuilds after an invalidation; the rest wait for it instead of each hitting the database
+        rebuildLock.lock();
+        try {
+            closure = current;
+            return closure != null ? closure : reload();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.access.closure.refresh-ms:60000}",
+            initialDelayString = "${app.access.closure.refresh-ms:60000}")
+    public void refresh() {
+        reload();
+    }
+
+    public AccessClosure reload() {
+        long observed = generation.get();
+        AccessClosure closure = load();
+        synchronized (this) {
+            if (generation.get() == observed) {
+                current = closure;
+            }
+        }
+        return closure;
+    }
+
+    public AccessClosure load() {
+        return transactionTemplate.execute(status -> AccessClosure.compute(roleOrdinals,
+                roleRepository.findAllNames(),
+                group(roleRepository.findRoleInclusions()),
+                group(roleRepository.findRolePermissions())));
+    }
+
+    public void invalidate() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    discard();
+                }
+            });
+        } else {
+            discard();
+        }
+    }
+
+    private synchronized void discard() {
+        generation.incrementAndGet();
+        current = null;
+    }
+
+    private static Map<String, Set<String>> group(List<RoleEdge> edges) {
+        Map<String, Set<String>> grouped = new HashMap<>();
+        for (RoleEdge edge : edges) {
+            grouped.computeIfAbsent(edge.getSource(), source -> new HashSet<>()).add(edge.getTarget());
+        }
+        return grouped;
+    }
+
+}
@@ -0,0 +1,14 @@
+package br.com.confidence.security;
+
+public record AccessGrant(AccessClosure closure, RoleMask roles, RoleMask permissions) {
+
+    public static AccessGrant ofRoles(RoleMask roles) {
+        return new AccessGrant(AccessClosure.EMPTY, roles, RoleMask.EMPTY);
+    }
+
+    public boolean hasPermission(String permission) {
+        int ordinal = closure.permissionOrdinal(permission);
+        return ordinal >= 0 && permissions.contains(ordinal);
+    }
+
+}
@@ -0,0 +1,79 @@
+package br.com.confidence.security;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+public class AdaptiveConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final GradientConcurrencyLimit limit;
+    private final List<String> paths;
+    private final ObjectMapper objectMapper;
+    private final Counter rejections;
+
+    public AdaptiveConcurrencyLimitFilter(MeterRegistry meterRegistry, ObjectMapper objectMapper,
+            @Value("${app.auth.limiter.paths:/auth/login,/auth/register,/auth/reset-password}") List<String> paths,
+            @Value("${app.auth.limiter.initial-limit:0}") int initialLimit,
+            @Value("${app.auth.limiter.min-limit:1}") int minLimit,
+            @Value("${app.auth.limiter.max-limit:0}") int maxLimit,
+            @Value("${app.auth.limiter.smoothing:0.2}") double smoothing,
+            @Value("${app.auth.limiter.tolerance:1.5}") double tolerance,
+            @Value("${app.auth.limiter.long-window:600}") int longWindow) {
+        int cores = Runtime.getRuntime().availableProcessors();
+        this.limit = new GradientConcurrencyLimit(
+                initialLimit > 0 ? initialLimit : cores * 2,
+                minLimit,
+                maxLimit > 0 ? maxLimit : cores * 16,
+                smoothing,
+                tolerance,
+                longWindow);
+        this.paths = paths;
+        this.objectMapper = objectMapper;
+
+        Gauge.builder("auth.limiter.limit", limit, GradientConcurrencyLimit::getLimit).register(meterRegistry);
+        Gauge.builder("auth.limiter.in-flight", limit, GradientConcurrencyLimit::getInFlight).register(meterRegistry);
+        this.rejections = Counter.builder("auth.limiter.rejected").register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !paths.contains(request.getRequestURI().substring(request.getContextPath().length()));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!limit.tryAcquire()) {
+            rejections.increment();
+            LoadShedding.reject(objectMapper, request, response, "Authentication capacity exceeded, retry shortly");
+            return;
+        }
+
+        int inFlight = limit.getInFlight();
+        long start = System.nanoTime();
+        boolean dropped = true;
+        try {
+            filterChain.doFilter(request, response);
+            dropped = response.getStatus() >= 500;
+        } finally {
+            limit.release(System.nanoTime() - start, inFlight, dropped);
+        }
+    }
+}
@@ -5,21 +5,27 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import br.com.confidence.exception.auth.AuthUserNotFoundException;
+import br.com.confidence.jfr.auth.AuthEvents;
+import br.com.confidence.jfr.auth.UserLookupEvent;
+import br.com.confidence.metrics.auth.AuthMetrics;
 import br.com.confidence.repository.user.UserRepository;
 
 @Service
 public class AuthorizationService implements UserDetailsService{
 
     private final UserRepository userRepository;
+    private final AuthMetrics authMetrics;
 
-    public AuthorizationService(UserRepository userRepository) {
+    public AuthorizationService(UserRepository userRepository, AuthMetrics authMetrics) {
         this.userRepository = userRepository;
+        this.authMetrics = authMetrics;
     }
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        return userRepository.findByEmail(email)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+        return authMetrics.recordLoginStage("user_lookup", () -> AuthEvents.record(new UserLookupEvent("login"),
+                () -> userRepository.findByEmail(email).orElseThrow(() -> new AuthUserNotFoundException("User not found"))));
     }
 
 }
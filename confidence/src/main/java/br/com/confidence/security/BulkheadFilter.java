@@ -0,0 +1,92 @@
+package br.com.confidence.security;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class BulkheadFilter extends OncePerRequestFilter {
+
+    private final Map<EndpointGroup, Semaphore> permits = new EnumMap<>(EndpointGroup.class);
+    private final Map<EndpointGroup, Counter> rejections = new EnumMap<>(EndpointGroup.class);
+    private final ObjectMapper objectMapper;
+    private final Duration maxWait;
+
+    public BulkheadFilter(Environment environment, MeterRegistry meterRegistry, ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.maxWait = environment.getProperty("app.bulkhead.max-wait", Duration.class, Duration.ZERO);
+
+        for (EndpointGroup group : EndpointGroup.values()) {
+            int limit = environment.getRequiredProperty("app.bulkhead." + group.key() + ".max-concurrent",
+                    Integer.class);
+            Semaphore semaphore = new Semaphore(limit);
+            permits.put(group, semaphore);
+
+            Gauge.builder("http.bulkhead.active", semaphore, s -> limit - s.availablePermits())
+                    .tag("group", group.key())
+                    .register(meterRegistry);
+            Gauge.builder("http.bulkhead.saturation", semaphore, s -> (double) (limit - s.availablePermits()) / limit)
+                    .tag("group", group.key())
+                    .register(meterRegistry);
+            Gauge.builder("http.bulkhead.limit", () -> limit)
+                    .tag("group", group.key())
+                    .register(meterRegistry);
+            rejections.put(group, Counter.builder("http.bulkhead.rejected")
+                    .tag("group", group.key())
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        EndpointGroup group = EndpointGroup.resolve(request.getRequestURI().substring(request.getContextPath().length()));
+        Semaphore semaphore = permits.get(group);
+
+        if (!acquire(semaphore)) {
+            rejections.get(group).increment();
+            LoadShedding.reject(objectMapper, request, response, "Too many concurrent " + group.key() + " requests");
+            return;
+        }
+
+        EndpointGroupContext.set(group);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            EndpointGroupContext.clear();
+            semaphore.release();
+        }
+    }
+
+    private boolean acquire(Semaphore semaphore) {
+        if (maxWait.isZero()) {
+            return semaphore.tryAcquire();
+        }
+        try {
+            return semaphore.tryAcquire(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
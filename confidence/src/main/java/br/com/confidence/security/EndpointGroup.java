@@ -0,0 +1,39 @@
+package br.com.confidence.security;
+
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+
+public enum EndpointGroup {
+
+    PUBLIC_AUTH("/auth/register", "/auth/login", "/auth/forgot-password", "/auth/reset-password"),
+    INFRASTRUCTURE("/actuator/health", "/actuator/health/**", "/v3/api-docs/**", "/swagger-ui.html", "/swagger-ui/**"),
+    ADMIN("/users/**", "/roles/**", "/permissions/**", "/actuator/prometheus", "/actuator/jfr/**", "/actuator/hibernate/**", "/actuator/startup/**"),
+    AUTHENTICATED("/auth/me");
+
+    private static final PathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final String[] patterns;
+
+    EndpointGroup(String... patterns) {
+        this.patterns = patterns;
+    }
+
+    public String[] patterns() {
+        return patterns.clone();
+    }
+
+    public String key() {
+        return name().toLowerCase().replace('_', '-');
+    }
+
+    public static EndpointGroup resolve(String path) {
+        for (EndpointGroup group : values()) {
+            for (String pattern : group.patterns) {
+                if (PATH_MATCHER.match(pattern, path)) {
+                    return group;
+                }
+            }
+        }
+        return AUTHENTICATED;
+    }
+}
@@ -0,0 +1,21 @@
+package br.com.confidence.security;
+
+public final class EndpointGroupContext {
+
+    private static final ThreadLocal<EndpointGroup> CURRENT = new ThreadLocal<>();
+
+    private EndpointGroupContext() {
+    }
+
+    public static EndpointGroup current() {
+        return CURRENT.get();
+    }
+
+    static void set(EndpointGroup group) {
+        CURRENT.set(group);
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+}
@@ -0,0 +1,93 @@
+package br.com.confidence.security;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Gradient limiter: compares a long-term latency average with the latest sample, shrinks the limit
+// proportionally once requests start queueing and grows it by sqrt(limit) while latency stays flat.
+public class GradientConcurrencyLimit {
+
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double DROP_BACKOFF = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+    private final double tolerance;
+    private final double longWindowFactor;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final ReentrantLock updateLock = new ReentrantLock();
+
+    private volatile double estimatedLimit;
+    private double longRtt;
+
+    public GradientConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, double smoothing, double tolerance,
+            int longWindow) {
+        this.estimatedLimit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.smoothing = smoothing;
+        this.tolerance = tolerance;
+        this.longWindowFactor = 2.0 / (longWindow + 1);
+    }
+
+    public boolean tryAcquire() {
+        if (inFlight.incrementAndGet() > getLimit()) {
+            inFlight.decrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    public void release(long rttNanos, int inFlightAtStart, boolean dropped) {
+        inFlight.decrementAndGet();
+
+        if (!updateLock.tryLock()) {
+            return;
+        }
+        try {
+            update(rttNanos, inFlightAtStart, dropped);
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    private void update(long rttNanos, int inFlightAtStart, boolean dropped) {
+        double limit = estimatedLimit;
+
+        if (dropped) {
+            estimatedLimit = clamp(limit * DROP_BACKOFF);
+            return;
+        }
+
+        double shortRtt = rttNanos;
+        longRtt = longRtt == 0 ? shortRtt : longRtt + longWindowFactor * (shortRtt - longRtt);
+
+        // Let the baseline recover after a sustained latency increase instead of pinning the limit at the floor
+        if (longRtt / shortRtt > 2) {
+            longRtt *= 0.95;
+        }
+
+        // Under-utilized: latency says nothing about the limit
+        if (inFlightAtStart < limit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, tolerance * longRtt / shortRtt));
+        double newLimit = gradient < 1.0 ? limit * gradient : limit + Math.sqrt(limit);
+        estimatedLimit = clamp(limit * (1 - smoothing) + newLimit * smoothing);
+    }
+
+    private double clamp(double limit) {
+        return Math.max(minLimit, Math.min(maxLimit, limit));
+    }
+
+    public int getLimit() {
+        return (int) estimatedLimit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
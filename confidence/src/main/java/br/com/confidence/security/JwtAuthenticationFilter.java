@@ -2,13 +2,14 @@ package br.com.confidence.security;
 
 import java.io.IOException;
 
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
-import br.com.confidence.exception.user.UserNotFoundException;
+import br.com.confidence.jfr.auth.AuthEvents;
+import br.com.confidence.jfr.auth.UserLookupEvent;
+import br.com.confidence.metrics.auth.AuthMetrics;
+import br.com.confidence.model.user.User;
 import br.com.confidence.repository.user.UserRepository;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -20,10 +21,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final TokenService tokenService;
     private final UserRepository userRepository;
+    private final AuthMetrics authMetrics;
+    private final RoleOrdinals roleOrdinals;
+    private final AccessClosureRegistry accessClosures;
 
-    public JwtAuthenticationFilter(TokenService tokenService, UserRepository userRepository) {
+    public JwtAuthenticationFilter(TokenService tokenService, UserRepository userRepository, AuthMetrics authMetrics,
+            RoleOrdinals roleOrdinals, AccessClosureRegistry accessClosures) {
         this.tokenService = tokenService;
         this.userRepository = userRepository;
+        this.authMetrics = authMetrics;
+        this.roleOrdinals = roleOrdinals;
+        this.accessClosures = accessClosures;
     }
 
     @Override
@@ -32,11 +40,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         
         var token = this.recoverToken(request);
         if (token != null) {
-            var login = tokenService.validateToken(token);
-            UserDetails user = userRepository.findByEmail(login).orElseThrow(() -> new UserNotFoundException("User not found"));
+            var claims = authMetrics.recordTokenValidation(() -> tokenService.validateTokenClaims(token),
+                    TokenClaims::isValid);
+            if (claims.isValid()) {
+                User user = authMetrics.recordFilterStage("user_lookup", () -> AuthEvents.record(new UserLookupEvent("filter"),
+                        () -> userRepository.findByEmail(claims.subject()).orElse(null)));
 
-            var autentication = new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
-            SecurityContextHolder.getContext().setAuthentication(autentication);
+                if (user != null && user.getTokenVersion() == claims.version()) {
+                    var autentication = new RoleMaskAuthenticationToken(user, user.getAuthorities(),
+                            accessClosures.current().grantFor(roleOrdinals.maskOfRoles(user.getRoles())));
+                    SecurityContextHolder.getContext().setAuthentication(autentication);
+                }
+            }
         }
 
         filterChain.doFilter(request, response);
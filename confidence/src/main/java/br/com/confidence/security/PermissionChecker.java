@@ -0,0 +1,34 @@
+package br.com.confidence.security;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+@Component("permissions")
+public class PermissionChecker {
+
+    private final AccessClosureRegistry accessClosures;
+    private final RoleOrdinals roleOrdinals;
+
+    public PermissionChecker(AccessClosureRegistry accessClosures, RoleOrdinals roleOrdinals) {
+        this.accessClosures = accessClosures;
+        this.roleOrdinals = roleOrdinals;
+    }
+
+    public boolean has(String permission) {
+        return has(SecurityContextHolder.getContext().getAuthentication(), permission);
+    }
+
+    public boolean has(Authentication authentication, String permission) {
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return false;
+        }
+        if (authentication instanceof RoleMaskAuthenticationToken token && token.getGrant().closure() != AccessClosure.EMPTY) {
+            return token.getGrant().hasPermission(permission);
+        }
+        return accessClosures.current()
+                .grantFor(roleOrdinals.maskOfAuthorities(authentication.getAuthorities()))
+                .hasPermission(permission);
+    }
+
+}
@@ -0,0 +1,77 @@
+package br.com.confidence.security;
+
+import java.util.Arrays;
+
+public final class RoleMask {
+
+    public static final RoleMask EMPTY = new RoleMask(new long[] { 0L });
+
+    private final long[] words;
+
+    private RoleMask(long[] words) {
+        this.words = words;
+    }
+
+    public static RoleMask of(int... ordinals) {
+        int max = Arrays.stream(ordinals).max().orElse(0);
+        long[] words = new long[(max >>> 6) + 1];
+        for (int ordinal : ordinals) {
+            words[ordinal >>> 6] |= 1L << ordinal;
+        }
+        return new RoleMask(words);
+    }
+
+    public RoleMask or(RoleMask other) {
+        long[] longer = words.length >= other.words.length ? words : other.words;
+        long[] shorter = longer == words ? other.words : words;
+        long[] union = longer.clone();
+        for (int i = 0; i < shorter.length; i++) {
+            union[i] |= shorter[i];
+        }
+        return new RoleMask(union);
+    }
+
+    public int[] ordinals() {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        int[] ordinals = new int[count];
+        int index = 0;
+        for (int i = 0; i < words.length; i++) {
+            long word = words[i];
+            while (word != 0) {
+                ordinals[index++] = (i << 6) + Long.numberOfTrailingZeros(word);
+                word &= word - 1;
+            }
+        }
+        return ordinals;
+    }
+
+    public boolean intersects(RoleMask other) {
+        long[] otherWords = other.words;
+        int length = Math.min(words.length, otherWords.length);
+        for (int i = 0; i < length; i++) {
+            if ((words[i] & otherWords[i]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean contains(int ordinal) {
+        int word = ordinal >>> 6;
+        return word < words.length && (words[word] & (1L << ordinal)) != 0;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof RoleMask mask && Arrays.equals(words, mask.words);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(words);
+    }
+
+}
@@ -0,0 +1,31 @@
+package br.com.confidence.security;
+
+import java.util.Collection;
+
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+
+public class RoleMaskAuthenticationToken extends UsernamePasswordAuthenticationToken {
+
+    private final AccessGrant grant;
+
+    public RoleMaskAuthenticationToken(Object principal, Collection<? extends GrantedAuthority> authorities,
+            RoleMask roleMask) {
+        this(principal, authorities, AccessGrant.ofRoles(roleMask));
+    }
+
+    public RoleMaskAuthenticationToken(Object principal, Collection<? extends GrantedAuthority> authorities,
+            AccessGrant grant) {
+        super(principal, null, authorities);
+        this.grant = grant;
+    }
+
+    public RoleMask getRoleMask() {
+        return grant.roles();
+    }
+
+    public AccessGrant getGrant() {
+        return grant;
+    }
+
+}
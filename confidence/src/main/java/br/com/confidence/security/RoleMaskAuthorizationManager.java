@@ -0,0 +1,42 @@
+package br.com.confidence.security;
+
+import java.util.function.Supplier;
+
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+
+public class RoleMaskAuthorizationManager implements AuthorizationManager<RequestAuthorizationContext> {
+
+    private static final AuthorizationDecision GRANTED = new AuthorizationDecision(true);
+    private static final AuthorizationDecision DENIED = new AuthorizationDecision(false);
+
+    private final RoleOrdinals roleOrdinals;
+    private final RoleMask required;
+
+    private RoleMaskAuthorizationManager(RoleOrdinals roleOrdinals, RoleMask required) {
+        this.roleOrdinals = roleOrdinals;
+        this.required = required;
+    }
+
+    public static RoleMaskAuthorizationManager hasAnyRole(RoleOrdinals roleOrdinals, String... roles) {
+        return new RoleMaskAuthorizationManager(roleOrdinals, roleOrdinals.maskOf(roles));
+    }
+
+    @Override
+    public AuthorizationDecision check(Supplier<Authentication> authentication, RequestAuthorizationContext context) {
+        return isGranted(authentication.get()) ? GRANTED : DENIED;
+    }
+
+    boolean isGranted(Authentication authentication) {
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return false;
+        }
+        RoleMask granted = authentication instanceof RoleMaskAuthenticationToken token
+                ? token.getRoleMask()
+                : roleOrdinals.maskOfAuthorities(authentication.getAuthorities());
+        return granted.intersects(required);
+    }
+
+}
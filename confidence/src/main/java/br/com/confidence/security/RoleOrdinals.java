@@ -0,0 +1,54 @@
+package br.com.confidence.security;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import br.com.confidence.model.role.Role;
+
+@Component
+public class RoleOrdinals {
+
+    private static final String ROLE_PREFIX = "ROLE_";
+
+    private final Map<String, Integer> ordinals = new ConcurrentHashMap<>();
+    private final AtomicInteger next = new AtomicInteger();
+
+    public int ordinal(String roleName) {
+        Integer ordinal = ordinals.get(roleName);
+        return ordinal != null ? ordinal : ordinals.computeIfAbsent(roleName, name -> next.getAndIncrement());
+    }
+
+    public RoleMask maskOf(String... roleNames) {
+        int[] values = new int[roleNames.length];
+        for (int i = 0; i < roleNames.length; i++) {
+            values[i] = ordinal(roleNames[i]);
+        }
+        return RoleMask.of(values);
+    }
+
+    public RoleMask maskOfRoles(Collection<Role> roles) {
+        if (roles == null || roles.isEmpty()) {
+            return RoleMask.EMPTY;
+        }
+        int[] values = new int[roles.size()];
+        int index = 0;
+        for (Role role : roles) {
+            values[index++] = ordinal(role.getName());
+        }
+        return RoleMask.of(values);
+    }
+
+    public RoleMask maskOfAuthorities(Collection<? extends GrantedAuthority> authorities) {
+        return maskOf(authorities.stream()
+                .map(GrantedAuthority::getAuthority)
+                .filter(authority -> authority != null && authority.startsWith(ROLE_PREFIX))
+                .map(authority -> authority.substring(ROLE_PREFIX.length()))
+                .toArray(String[]::new));
+    }
+
+}
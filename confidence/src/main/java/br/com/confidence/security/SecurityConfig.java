@@ -6,40 +6,49 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
+import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
-import org.springframework.security.web.authentication.HttpStatusEntryPoint;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
-import jakarta.servlet.http.HttpServletResponse;
+import br.com.confidence.config.ErrorPayloads;
+import br.com.confidence.metrics.auth.AuthMetrics;
 
 @Configuration
 @EnableWebSecurity
+@EnableMethodSecurity
 public class SecurityConfig {
 
     @Autowired
     JwtAuthenticationFilter jwtAuthenticationFilter;
 
+    @Autowired
+    ErrorPayloads errorPayloads;
+
+    @Autowired
+    RoleOrdinals roleOrdinals;
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         return http
                 .csrf(csrf -> csrf.disable())
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(authorize -> authorize
-                        .requestMatchers("/auth/register", "/auth/login", "/auth/forgot-password",
-                                "/auth/reset-password")
-                        .permitAll()
-                        .requestMatchers("/actuator/health", "/v3/api-docs/**", "/swagger-ui.html", "/swagger-ui/**")
-                        .permitAll()
-                        .requestMatchers("/auth/me").hasAnyRole("USER", "ADMIN")
-                        .requestMatchers("/users/**", "/roles/**").hasRole("ADMIN")
+                        .requestMatchers(EndpointGroup.PUBLIC_AUTH.patterns()).permitAll()
+                        .requestMatchers(EndpointGroup.INFRASTRUCTURE.patterns()).permitAll()
+                        .requestMatchers(EndpointGroup.AUTHENTICATED.patterns())
+                                .access(RoleMaskAuthorizationManager.hasAnyRole(roleOrdinals, "USER", "ADMIN"))
+                        .requestMatchers(EndpointGroup.ADMIN.patterns())
+                                .access(RoleMaskAuthorizationManager.hasAnyRole(roleOrdinals, "ADMIN"))
                         .anyRequest().authenticated())
-                        .exceptionHandling(ex -> ex.authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED))
-                        .accessDeniedHandler((request, response, accessDeniedException) -> response.sendError(HttpServletResponse.SC_FORBIDDEN)))
+                        .exceptionHandling(ex -> ex.authenticationEntryPoint((request, response, authException) -> errorPayloads
+                                .write(response, HttpStatus.UNAUTHORIZED, "Authentication required", request.getRequestURI()))
+                        .accessDeniedHandler((request, response, accessDeniedException) -> errorPayloads
+                                .write(response, HttpStatus.FORBIDDEN, "Forbidden", request.getRequestURI())))
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
                 .build();
     }
@@ -51,7 +60,7 @@ public class SecurityConfig {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(AuthMetrics authMetrics) {
+        return authMetrics.timed(new BCryptPasswordEncoder());
     }
 }
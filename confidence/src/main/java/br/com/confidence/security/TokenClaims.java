@@ -0,0 +1,11 @@
+package br.com.confidence.security;
+
+public record TokenClaims(String subject, int version) {
+
+    public static final TokenClaims INVALID = new TokenClaims("", -1);
+
+    public boolean isValid() {
+        return subject != null && !subject.isEmpty();
+    }
+
+}
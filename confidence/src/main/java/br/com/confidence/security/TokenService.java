@@ -11,38 +11,58 @@ import com.auth0.jwt.JWT;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.JWTCreationException;
 import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
 
+import br.com.confidence.jfr.auth.AuthEvents;
+import br.com.confidence.jfr.auth.TokenGenerationEvent;
+import br.com.confidence.jfr.auth.TokenValidationEvent;
 import br.com.confidence.model.user.User;
 
 @Service
 public class TokenService {
 
+    static final String VERSION_CLAIM = "ver";
+
     @Value("${api.security.token.secret}")
     private String secret;
 
     public String generateToken(User user) {
-        try {
-            Algorithm algorithm = Algorithm.HMAC256(secret);
-            return JWT.create()
-                    .withIssuer("auth-confidence-api")
-                    .withSubject(user.getEmail())
-                    .withExpiresAt(tokenExpirationDate())
-                    .sign(algorithm);
-        } catch (JWTCreationException exception) {
-            throw new RuntimeException("Error generating token");
-        }
+        return AuthEvents.record(new TokenGenerationEvent(), () -> {
+            try {
+                Algorithm algorithm = Algorithm.HMAC256(secret);
+                return JWT.create()
+                        .withIssuer("auth-confidence-api")
+                        .withSubject(user.getEmail())
+                        .withClaim(VERSION_CLAIM, user.getTokenVersion())
+                        .withExpiresAt(tokenExpirationDate())
+                        .sign(algorithm);
+            } catch (JWTCreationException exception) {
+                throw new RuntimeException("Error generating token");
+            }
+        });
     }
 
     public String validateToken(String token) {
+        return validateTokenClaims(token).subject();
+    }
+
+    public TokenClaims validateTokenClaims(String token) {
+        TokenValidationEvent event = new TokenValidationEvent();
+        event.begin();
         try {
             Algorithm algorithm = Algorithm.HMAC256(secret);
-            return JWT.require(algorithm)
+            DecodedJWT decoded = JWT.require(algorithm)
                     .withIssuer("auth-confidence-api")
                     .build()
-                    .verify(token)
-                    .getSubject();
+                    .verify(token);
+            Integer version = decoded.getClaim(VERSION_CLAIM).asInt();
+            event.succeeded();
+            return new TokenClaims(decoded.getSubject(), version == null ? 0 : version);
         } catch (JWTVerificationException exception) {
-            return "";
+            event.failed(exception);
+            return TokenClaims.INVALID;
+        } finally {
+            event.commit();
         }
     }
 
@@ -0,0 +1,206 @@
+package br.com.confidence.seed.breach;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import br.com.confidence.validation.user.BreachedPasswordDatabase;
+
+@Component
+@Profile("breach-import")
+public class BreachedPasswordImportRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(BreachedPasswordImportRunner.class);
+
+    private static final int DIGEST_SIZE = 20;
+
+    private final ConfigurableApplicationContext context;
+
+    @Value("${app.breached-passwords.import.source}")
+    private String source;
+
+    @Value("${app.breached-passwords.import.target}")
+    private String target;
+
+    @Value("${app.breached-passwords.import.min-occurrences:1}")
+    private long minOccurrences;
+
+    @Value("${app.breached-passwords.import.chunk-size:5000000}")
+    private int chunkSize;
+
+    @Value("${app.breached-passwords.import.exit-on-finish:true}")
+    private boolean exitOnFinish;
+
+    public BreachedPasswordImportRunner(ConfigurableApplicationContext context) {
+        this.context = context;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        long start = System.nanoTime();
+        long written = importCorpus(Path.of(source), Path.of(target));
+        log.info("Wrote {} breached password hashes to {} in {} ms", written, target,
+                (System.nanoTime() - start) / 1_000_000);
+
+        if (exitOnFinish) {
+            System.exit(SpringApplication.exit(context));
+        }
+    }
+
+    long importCorpus(Path source, Path target) throws IOException {
+        List<Path> runs = new ArrayList<>();
+        long skipped = 0;
+
+        try (BufferedReader reader = Files.newBufferedReader(source, StandardCharsets.US_ASCII)) {
+            List<byte[]> chunk = new ArrayList<>();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                byte[] digest = parse(line);
+                if (digest == null) {
+                    skipped++;
+                    continue;
+                }
+                chunk.add(digest);
+                if (chunk.size() >= chunkSize) {
+                    runs.add(writeRun(chunk));
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty() || runs.isEmpty()) {
+                runs.add(writeRun(chunk));
+            }
+        }
+
+        if (skipped > 0) {
+            log.info("Skipped {} lines that were malformed or below {} occurrences", skipped, minOccurrences);
+        }
+
+        try (MergedRuns merged = new MergedRuns(runs)) {
+            return BreachedPasswordDatabase.write(target, merged);
+        } finally {
+            for (Path run : runs) {
+                Files.deleteIfExists(run);
+            }
+        }
+    }
+
+    private byte[] parse(String line) {
+        String trimmed = line.strip();
+        int separator = trimmed.indexOf(':');
+        String hash = separator < 0 ? trimmed : trimmed.substring(0, separator);
+        if (hash.length() != DIGEST_SIZE * 2) {
+            return null;
+        }
+
+        try {
+            if (separator >= 0 && Long.parseLong(trimmed.substring(separator + 1).strip()) < minOccurrences) {
+                return null;
+            }
+            return HexFormat.of().parseHex(hash);
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
+    private Path writeRun(List<byte[]> chunk) throws IOException {
+        chunk.sort(Arrays::compareUnsigned);
+        Path run = Files.createTempFile("breached-passwords-", ".run");
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(run), 1 << 16)) {
+            for (byte[] digest : chunk) {
+                out.write(digest);
+            }
+        }
+        return run;
+    }
+
+    private static final class MergedRuns implements Iterator<byte[]>, AutoCloseable {
+
+        private final List<RunCursor> cursors = new ArrayList<>();
+        private final PriorityQueue<RunCursor> queue = new PriorityQueue<>(
+                (left, right) -> Arrays.compareUnsigned(left.current, right.current));
+
+        MergedRuns(List<Path> runs) throws IOException {
+            for (Path run : runs) {
+                RunCursor cursor = new RunCursor(run);
+                cursors.add(cursor);
+                if (cursor.advance()) {
+                    queue.add(cursor);
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !queue.isEmpty();
+        }
+
+        @Override
+        public byte[] next() {
+            RunCursor cursor = queue.poll();
+            if (cursor == null) {
+                throw new NoSuchElementException();
+            }
+            byte[] digest = cursor.current;
+            if (cursor.advance()) {
+                queue.add(cursor);
+            }
+            return digest;
+        }
+
+        @Override
+        public void close() throws IOException {
+            for (RunCursor cursor : cursors) {
+                cursor.in.close();
+            }
+        }
+    }
+
+    private static final class RunCursor {
+
+        private final DataInputStream in;
+        private byte[] current;
+
+        RunCursor(Path run) throws IOException {
+            this.in = new DataInputStream(new BufferedInputStream(Files.newInputStream(run), 1 << 16));
+        }
+
+        boolean advance() {
+            byte[] next = new byte[DIGEST_SIZE];
+            try {
+                in.readFully(next);
+                current = next;
+                return true;
+            } catch (EOFException ex) {
+                return false;
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+    }
+
+}
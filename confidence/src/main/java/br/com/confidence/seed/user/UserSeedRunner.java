@@ -0,0 +1,185 @@
+package br.com.confidence.seed.user;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+@Component
+@Profile("seed")
+public class UserSeedRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(UserSeedRunner.class);
+
+    private static final String[] FIRST_NAMES = {
+            "Ana", "Bruno", "Carla", "Daniel", "Eduarda", "Felipe", "Gabriela", "Henrique", "Isabela", "João",
+            "Larissa", "Lucas", "Mariana", "Mateus", "Natália", "Pedro", "Rafaela", "Rodrigo", "Sofia", "Thiago" };
+
+    private static final String[] LAST_NAMES = {
+            "Almeida", "Barbosa", "Cardoso", "Costa", "Ferreira", "Gomes", "Lima", "Martins", "Melo", "Oliveira",
+            "Pereira", "Ribeiro", "Rocha", "Santos", "Silva", "Souza", "Teixeira", "Vieira", "Willers", "Xavier" };
+
+    private static final String[] EMAIL_FIRST_NAMES = toEmailLocalParts(FIRST_NAMES);
+    private static final String[] EMAIL_LAST_NAMES = toEmailLocalParts(LAST_NAMES);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final ConfigurableApplicationContext context;
+
+    @Value("${app.seed.users.count:1000000}")
+    private long count;
+
+    @Value("${app.seed.users.rows-per-insert:1000}")
+    private int rowsPerInsert;
+
+    @Value("${app.seed.users.chunk-size:100000}")
+    private int chunkSize;
+
+    @Value("${app.seed.users.parallelism:4}")
+    private int parallelism;
+
+    @Value("${app.seed.users.password:SeedUser@Password123}")
+    private String password;
+
+    @Value("${app.seed.users.email-domain:seed.confidence.com}")
+    private String emailDomain;
+
+    @Value("${app.seed.users.admin-every:1000}")
+    private int adminEvery;
+
+    @Value("${app.seed.users.exit-on-finish:true}")
+    private boolean exitOnFinish;
+
+    public UserSeedRunner(JdbcTemplate jdbcTemplate, PasswordEncoder passwordEncoder,
+            ConfigurableApplicationContext context) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.passwordEncoder = passwordEncoder;
+        this.context = context;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        seed();
+
+        if (exitOnFinish) {
+            System.exit(SpringApplication.exit(context));
+        }
+    }
+
+    public long seed() throws Exception {
+        long userRoleId = findRoleId("USER");
+        long adminRoleId = findRoleId("ADMIN");
+        long firstId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM users", Long.class) + 1;
+        String hash = passwordEncoder.encode(password);
+
+        log.info("Seeding {} users from id {} with {} workers", count, firstId, parallelism);
+        long startedAt = System.nanoTime();
+        AtomicLong inserted = new AtomicLong();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(parallelism)) {
+            List<Future<?>> chunks = new ArrayList<>();
+            for (long from = firstId; from < firstId + count; from += chunkSize) {
+                long chunkFrom = from;
+                long chunkTo = Math.min(from + chunkSize, firstId + count);
+                chunks.add(executor.submit(() -> {
+                    seedChunk(chunkFrom, chunkTo, hash, userRoleId, adminRoleId);
+                    long done = inserted.addAndGet(chunkTo - chunkFrom);
+                    log.info("Seeded {}/{} users", done, count);
+                }));
+            }
+
+            for (Future<?> chunk : chunks) {
+                chunk.get();
+            }
+        }
+
+        restartIdentityIfNeeded(firstId + count);
+
+        long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
+        log.info("Seeded {} users in {} ms ({} rows/s)", inserted.get(), elapsedMs,
+                elapsedMs == 0 ? inserted.get() : inserted.get() * 1000 / elapsedMs);
+        return inserted.get();
+    }
+
+    private void seedChunk(long from, long to, String hash, long userRoleId, long adminRoleId) {
+        for (long start = from; start < to; start += rowsPerInsert) {
+            long end = Math.min(start + rowsPerInsert, to);
+            int rows = (int) (end - start);
+
+            Object[] args = new Object[rows * 5];
+            for (int i = 0; i < rows; i++) {
+                long id = start + i;
+                int first = (int) (id % FIRST_NAMES.length);
+                int last = (int) (id / FIRST_NAMES.length % LAST_NAMES.length);
+                String email = EMAIL_FIRST_NAMES[first] + "." + EMAIL_LAST_NAMES[last] + "." + id + "@"
+                        + emailDomain.toLowerCase(Locale.ROOT);
+                args[i * 5] = id;
+                args[i * 5 + 1] = FIRST_NAMES[first] + " " + LAST_NAMES[last];
+                args[i * 5 + 2] = email;
+                args[i * 5 + 3] = email;
+                args[i * 5 + 4] = hash;
+            }
+
+            jdbcTemplate.update(multiRowInsert("INSERT INTO users (id, name, email, email_normalized, password) VALUES ",
+                    "(?, ?, ?, ?, ?)", rows), args);
+        }
+
+        jdbcTemplate.update("INSERT INTO user_role (user_id, role_id) SELECT id, ? FROM users WHERE id >= ? AND id < ?",
+                userRoleId, from, to);
+
+        if (adminEvery > 0) {
+            jdbcTemplate.update("""
+                    INSERT INTO user_role (user_id, role_id)
+                    SELECT id, ? FROM users WHERE id >= ? AND id < ? AND MOD(id, ?) = 0
+                    """, adminRoleId, from, to, adminEvery);
+        }
+    }
+
+    // "João" becomes "joao", so a seeded email is already its own email_normalized key
+    private static String[] toEmailLocalParts(String[] names) {
+        return Arrays.stream(names)
+                .map(name -> Normalizer.normalize(name, Normalizer.Form.NFD).replaceAll("[^\\p{ASCII}]", ""))
+                .map(name -> name.toLowerCase(Locale.ROOT))
+                .toArray(String[]::new);
+    }
+
+    private void restartIdentityIfNeeded(long nextId) {
+        String database = jdbcTemplate.execute((ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        if ("H2".equals(database)) {
+            jdbcTemplate.execute("ALTER TABLE users ALTER COLUMN id RESTART WITH " + nextId);
+        }
+    }
+
+    private long findRoleId(String name) {
+        return jdbcTemplate.queryForObject("SELECT id FROM roles WHERE name = ?", Long.class, name);
+    }
+
+    private static String multiRowInsert(String prefix, String row, int rows) {
+        StringBuilder sql = new StringBuilder(prefix.length() + rows * (row.length() + 2)).append(prefix);
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(row);
+        }
+        return sql.toString();
+    }
+}
@@ -6,6 +6,9 @@ import org.springframework.stereotype.Service;
 
 import br.com.confidence.dto.authentication.AuthenticationRequest;
 import br.com.confidence.dto.authentication.AuthenticationResponse;
+import br.com.confidence.jfr.auth.AuthEvents;
+import br.com.confidence.jfr.auth.LoginEvent;
+import br.com.confidence.metrics.auth.AuthMetrics;
 import br.com.confidence.model.user.User;
 import br.com.confidence.security.TokenService;
 
@@ -14,20 +17,24 @@ public class AuthService {
 
     private final AuthenticationManager authenticationManager;
     private final TokenService tokenService;
+    private final AuthMetrics authMetrics;
 
-    public AuthService(AuthenticationManager authenticationManager, TokenService tokenService) {
+    public AuthService(AuthenticationManager authenticationManager, TokenService tokenService, AuthMetrics authMetrics) {
         this.authenticationManager = authenticationManager;
         this.tokenService = tokenService;
+        this.authMetrics = authMetrics;
     }
 
     public AuthenticationResponse login (AuthenticationRequest request) {
-        var authToken = new UsernamePasswordAuthenticationToken(request.email(), request.password());
+        return AuthEvents.record(new LoginEvent(), () -> authMetrics.recordLogin(() -> {
+            var authToken = new UsernamePasswordAuthenticationToken(request.email(), request.password());
 
-        var authentication = authenticationManager.authenticate(authToken);
-        User user = (User) authentication.getPrincipal();
+            var authentication = authenticationManager.authenticate(authToken);
+            User user = (User) authentication.getPrincipal();
 
-        String token = tokenService.generateToken(user);
-        return new AuthenticationResponse(token);
+            String token = authMetrics.recordLoginStage("token_sign", () -> tokenService.generateToken(user));
+            return new AuthenticationResponse(token);
+        }));
     }
 
 }
@@ -0,0 +1,61 @@
+package br.com.confidence.service.auth;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import br.com.confidence.exception.auth.PasswordResetTokenExpiredException;
+import br.com.confidence.exception.user.InvalidUserPasswordException;
+import br.com.confidence.model.auth.PasswordResetToken;
+import br.com.confidence.model.user.User;
+import br.com.confidence.repository.auth.PasswordResetTokenRepository;
+
+@Service
+@ConditionalOnProperty(name = "app.auth.password-reset.token-mode", havingValue = "database", matchIfMissing = true)
+public class DatabasePasswordResetTokenStrategy implements PasswordResetTokenStrategy {
+
+    private final PasswordResetTokenRepository tokenRepository;
+
+    public DatabasePasswordResetTokenStrategy(PasswordResetTokenRepository tokenRepository) {
+        this.tokenRepository = tokenRepository;
+    }
+
+    @Override
+    public String issueToken(User user) {
+        String tokenValue = UUID.randomUUID().toString();
+        LocalDateTime expiry = LocalDateTime.now().plusHours(1);
+
+        if (tokenRepository.replaceTokenForUser(user.getId(), tokenValue, expiry) > 0) {
+            return tokenValue;
+        }
+
+        try {
+            tokenRepository.saveAndFlush(new PasswordResetToken(null, tokenValue, user, expiry));
+        } catch (DataIntegrityViolationException ex) {
+            // A concurrent request inserted this user's token first; ux_password_reset_tokens_user_id keeps one row
+            if (tokenRepository.replaceTokenForUser(user.getId(), tokenValue, expiry) == 0) {
+                throw ex;
+            }
+        }
+        return tokenValue;
+    }
+
+    @Override
+    public User consumeToken(String tokenValue) {
+        var token = tokenRepository.findByTokenWithUser(tokenValue)
+                .orElseThrow(() -> new InvalidUserPasswordException("Invalid or expired password reset token"));
+
+        if (token.getExpiryDate().isBefore(LocalDateTime.now())) {
+            throw new PasswordResetTokenExpiredException("Password reset token has expired");
+        }
+
+        if (tokenRepository.deleteByToken(tokenValue) != 1) {
+            throw new InvalidUserPasswordException("Invalid or expired password reset token");
+        }
+        return token.getUser();
+    }
+
+}
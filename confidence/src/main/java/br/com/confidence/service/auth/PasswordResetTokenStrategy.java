@@ -0,0 +1,10 @@
+package br.com.confidence.service.auth;
+
+import br.com.confidence.model.user.User;
+
+public interface PasswordResetTokenStrategy {
+
+    public String issueToken(User user);
+    public User consumeToken(String tokenValue);
+
+}
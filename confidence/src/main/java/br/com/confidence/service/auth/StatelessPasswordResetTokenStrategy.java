@@ -0,0 +1,73 @@
+package br.com.confidence.service.auth;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.exceptions.TokenExpiredException;
+
+import br.com.confidence.exception.auth.PasswordResetTokenExpiredException;
+import br.com.confidence.exception.user.InvalidUserPasswordException;
+import br.com.confidence.model.user.User;
+import br.com.confidence.repository.user.UserRepository;
+
+@Service
+@ConditionalOnProperty(name = "app.auth.password-reset.token-mode", havingValue = "stateless")
+public class StatelessPasswordResetTokenStrategy implements PasswordResetTokenStrategy {
+
+    private static final String ISSUER = "auth-confidence-api-password-reset";
+
+    private final UserRepository userRepository;
+    private final String secret;
+
+    public StatelessPasswordResetTokenStrategy(UserRepository userRepository,
+            @Value("${app.auth.password-reset.secret:${api.security.token.secret}}") String secret) {
+        this.userRepository = userRepository;
+        this.secret = secret;
+    }
+
+    @Override
+    public String issueToken(User user) {
+        return JWT.create()
+                .withIssuer(ISSUER)
+                .withSubject(String.valueOf(user.getId()))
+                .withExpiresAt(Instant.now().plus(1, ChronoUnit.HOURS))
+                .sign(algorithmFor(user));
+    }
+
+    @Override
+    public User consumeToken(String tokenValue) {
+        try {
+            long userId = Long.parseLong(JWT.decode(tokenValue).getSubject());
+            User user = userRepository.findById(userId).orElseThrow(this::invalidToken);
+
+            JWT.require(algorithmFor(user))
+                    .withIssuer(ISSUER)
+                    .build()
+                    .verify(tokenValue);
+
+            return user;
+        } catch (TokenExpiredException ex) {
+            throw new PasswordResetTokenExpiredException("Password reset token has expired");
+        } catch (JWTVerificationException | NumberFormatException ex) {
+            throw invalidToken();
+        }
+    }
+
+    private Algorithm algorithmFor(User user) {
+        byte[] key = (secret + ":" + user.getPassword()).getBytes(StandardCharsets.UTF_8);
+        return Algorithm.HMAC256(key);
+    }
+
+    private InvalidUserPasswordException invalidToken() {
+        return new InvalidUserPasswordException("Invalid or expired password reset token");
+    }
+
+}
@@ -3,8 +3,12 @@ package br.com.confidence.service.email;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
+import br.com.confidence.jfr.auth.AuthEvents;
+import br.com.confidence.jfr.auth.EmailSendEvent;
+
 @Service
 public class EmailService {
 
@@ -17,13 +21,14 @@ public class EmailService {
         this.mailSender = mailSender;
     }
 
+    @Async
     public void sendSimpleMail(String to, String subject, String body) {
         SimpleMailMessage message = new SimpleMailMessage();
         message.setFrom(from);
         message.setTo(to);
         message.setSubject(subject);
         message.setText(body);
-        mailSender.send(message);
+        AuthEvents.record(new EmailSendEvent(), () -> mailSender.send(message));
     }
     
 }
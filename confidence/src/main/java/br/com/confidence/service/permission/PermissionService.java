@@ -0,0 +1,19 @@
+package br.com.confidence.service.permission;
+
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+
+import br.com.confidence.dto.permission.PermissionRequest;
+import br.com.confidence.dto.permission.PermissionResponse;
+
+@Service
+public interface PermissionService {
+
+    public PermissionResponse create(PermissionRequest permissionRequest);
+    public PermissionResponse update(PermissionRequest permissionRequest, long id);
+    public void delete(long id);
+    public PermissionResponse searchById(long id);
+    public List<PermissionResponse> listAll();
+
+}
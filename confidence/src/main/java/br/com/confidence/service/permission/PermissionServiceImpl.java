@@ -0,0 +1,84 @@
+package br.com.confidence.service.permission;
+
+import java.util.List;
+
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import br.com.confidence.dto.permission.PermissionRequest;
+import br.com.confidence.dto.permission.PermissionResponse;
+import br.com.confidence.exception.permission.PermissionAlreadyExistsException;
+import br.com.confidence.exception.permission.PermissionNotFoundException;
+import br.com.confidence.mapper.permission.PermissionMapper;
+import br.com.confidence.model.permission.Permission;
+import br.com.confidence.repository.permission.PermissionRepository;
+import br.com.confidence.security.AccessClosureRegistry;
+
+@Service
+public class PermissionServiceImpl implements PermissionService {
+
+    private final PermissionRepository permissionRepository;
+    private final AccessClosureRegistry accessClosures;
+
+    public PermissionServiceImpl(PermissionRepository permissionRepository, AccessClosureRegistry accessClosures) {
+        this.permissionRepository = permissionRepository;
+        this.accessClosures = accessClosures;
+    }
+
+    @Override
+    @Transactional
+    @PreAuthorize("@permissions.has('permissions:write')")
+    public PermissionResponse create(PermissionRequest permissionRequest) {
+        if (permissionRepository.existsByName(permissionRequest.name())) {
+            throw new PermissionAlreadyExistsException("Permission already exists");
+        }
+        return PermissionMapper.toResponse(permissionRepository.save(PermissionMapper.toEntity(permissionRequest)));
+    }
+
+    @Override
+    @Transactional
+    @PreAuthorize("@permissions.has('permissions:write')")
+    public PermissionResponse update(PermissionRequest permissionRequest, long id) {
+        Permission permission = findPermission(id);
+
+        permissionRepository.findByName(permissionRequest.name())
+                .filter(existing -> existing.getId() != id)
+                .ifPresent(existing -> {
+                    throw new PermissionAlreadyExistsException("Permission name already exists");
+                });
+
+        permission.setName(permissionRequest.name());
+        permission.setDescription(permissionRequest.description());
+        accessClosures.invalidate();
+        return PermissionMapper.toResponse(permissionRepository.save(permission));
+    }
+
+    @Override
+    @Transactional
+    @PreAuthorize("@permissions.has('permissions:write')")
+    public void delete(long id) {
+        permissionRepository.delete(findPermission(id));
+        accessClosures.invalidate();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @PreAuthorize("@permissions.has('permissions:read')")
+    public PermissionResponse searchById(long id) {
+        return PermissionMapper.toResponse(findPermission(id));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @PreAuthorize("@permissions.has('permissions:read')")
+    public List<PermissionResponse> listAll() {
+        return PermissionMapper.toResponse(permissionRepository.findAll());
+    }
+
+    private Permission findPermission(long id) {
+        return permissionRepository.findById(id)
+                .orElseThrow(() -> new PermissionNotFoundException("Permission not found"));
+    }
+
+}
@@ -0,0 +1,17 @@
+package br.com.confidence.service.role;
+
+import java.util.Collection;
+
+import org.springframework.stereotype.Service;
+
+import br.com.confidence.dto.role.RoleAssignmentResponse;
+
+@Service
+public interface RoleAssignmentService {
+
+    public RoleAssignmentResponse assign(long roleId, long userId);
+    public RoleAssignmentResponse revoke(long roleId, long userId);
+    public RoleAssignmentResponse assignAll(long roleId, Collection<Long> userIds);
+    public RoleAssignmentResponse revokeAll(long roleId, Collection<Long> userIds);
+
+}
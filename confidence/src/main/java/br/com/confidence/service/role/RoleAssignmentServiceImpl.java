@@ -0,0 +1,96 @@
+package br.com.confidence.service.role;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import br.com.confidence.dto.role.RoleAssignmentResponse;
+import br.com.confidence.exception.role.RoleNotFoundException;
+import br.com.confidence.exception.user.UserNotFoundException;
+import br.com.confidence.repository.role.RoleRepository;
+import br.com.confidence.repository.user.UserRepository;
+
+@Service
+public class RoleAssignmentServiceImpl implements RoleAssignmentService {
+
+    private final RoleRepository roleRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.roles.assignment.chunk-size:1000}")
+    private int chunkSize;
+
+    public RoleAssignmentServiceImpl(RoleRepository roleRepository, UserRepository userRepository,
+            PlatformTransactionManager transactionManager) {
+        this.roleRepository = roleRepository;
+        this.userRepository = userRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public RoleAssignmentResponse assign(long roleId, long userId) {
+        validateUserExists(userId);
+        return assignAll(roleId, List.of(userId));
+    }
+
+    @Override
+    public RoleAssignmentResponse revoke(long roleId, long userId) {
+        validateUserExists(userId);
+        return revokeAll(roleId, List.of(userId));
+    }
+
+    @Override
+    public RoleAssignmentResponse assignAll(long roleId, Collection<Long> userIds) {
+        validateRoleExists(roleId);
+        List<Long> ids = sortedDistinct(userIds);
+
+        int changed = 0;
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            List<Long> chunk = ids.subList(from, Math.min(from + chunkSize, ids.size()));
+            changed += transactionTemplate.execute(status -> {
+                roleRepository.bumpTokenVersionOfUsersWithoutRole(roleId, chunk);
+                return roleRepository.assignRoleToUsers(roleId, chunk);
+            });
+        }
+
+        return new RoleAssignmentResponse(roleId, ids.size(), changed);
+    }
+
+    @Override
+    public RoleAssignmentResponse revokeAll(long roleId, Collection<Long> userIds) {
+        validateRoleExists(roleId);
+        List<Long> ids = sortedDistinct(userIds);
+
+        int changed = 0;
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            List<Long> chunk = ids.subList(from, Math.min(from + chunkSize, ids.size()));
+            changed += transactionTemplate.execute(status -> {
+                roleRepository.bumpTokenVersionOfUsersWithRole(roleId, chunk);
+                return roleRepository.revokeRoleFromUsers(roleId, chunk);
+            });
+        }
+
+        return new RoleAssignmentResponse(roleId, ids.size(), changed);
+    }
+
+    private void validateRoleExists(long roleId) {
+        if (!roleRepository.existsById(roleId)) {
+            throw new RoleNotFoundException("Role not found");
+        }
+    }
+
+    private void validateUserExists(long userId) {
+        if (!userRepository.existsById(userId)) {
+            throw new UserNotFoundException("User not found");
+        }
+    }
+
+    private static List<Long> sortedDistinct(Collection<Long> userIds) {
+        return userIds.stream().distinct().sorted().toList();
+    }
+
+}
@@ -0,0 +1,13 @@
+package br.com.confidence.service.role;
+
+import org.springframework.stereotype.Service;
+
+import br.com.confidence.dto.role.RoleDeletionJobResponse;
+
+@Service
+public interface RoleDeletionService {
+
+    public RoleDeletionJobResponse schedule(long roleId, Long replacementRoleId);
+    public RoleDeletionJobResponse searchById(long jobId);
+
+}
@@ -0,0 +1,82 @@
+package br.com.confidence.service.role;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import br.com.confidence.dto.role.RoleDeletionJobResponse;
+import br.com.confidence.exception.role.InvalidReplacementRoleException;
+import br.com.confidence.exception.role.RoleDeletionInProgressException;
+import br.com.confidence.exception.role.RoleDeletionJobNotFoundException;
+import br.com.confidence.exception.role.RoleNotFoundException;
+import br.com.confidence.mapper.role.RoleDeletionJobMapper;
+import br.com.confidence.model.role.RoleDeletionJob;
+import br.com.confidence.model.role.RoleDeletionStatus;
+import br.com.confidence.repository.role.RoleDeletionJobRepository;
+import br.com.confidence.repository.role.RoleRepository;
+
+@Service
+public class RoleDeletionServiceImpl implements RoleDeletionService {
+
+    private final RoleRepository roleRepository;
+    private final RoleDeletionJobRepository jobRepository;
+
+    public RoleDeletionServiceImpl(RoleRepository roleRepository, RoleDeletionJobRepository jobRepository) {
+        this.roleRepository = roleRepository;
+        this.jobRepository = jobRepository;
+    }
+
+    @Override
+    @Transactional
+    public RoleDeletionJobResponse schedule(long roleId, Long replacementRoleId) {
+        if (!roleRepository.existsById(roleId)) {
+            throw new RoleNotFoundException("Role not found");
+        }
+        if (replacementRoleId != null) {
+            if (replacementRoleId == roleId) {
+                throw new InvalidReplacementRoleException("Replacement role must differ from the deleted role");
+            }
+            if (!roleRepository.existsById(replacementRoleId)) {
+                throw new RoleNotFoundException("Replacement role not found");
+            }
+        }
+
+        Optional<RoleDeletionJob> activeJob = jobRepository
+                .findFirstByRoleIdAndStatusIn(roleId, EnumSet.of(RoleDeletionStatus.PENDING, RoleDeletionStatus.RUNNING));
+        if (activeJob.isPresent()) {
+            if (!Objects.equals(activeJob.get().getReplacementRoleId(), replacementRoleId)) {
+                throw new RoleDeletionInProgressException(
+                        "Role is already being deleted with a different replacement role");
+            }
+            return RoleDeletionJobMapper.toResponse(activeJob.get());
+        }
+
+        return RoleDeletionJobMapper.toResponse(newJob(roleId, replacementRoleId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public RoleDeletionJobResponse searchById(long jobId) {
+        RoleDeletionJob job = jobRepository.findById(jobId)
+                .orElseThrow(() -> new RoleDeletionJobNotFoundException("Role deletion job not found"));
+        return RoleDeletionJobMapper.toResponse(job);
+    }
+
+    private RoleDeletionJob newJob(long roleId, Long replacementRoleId) {
+        LocalDateTime now = LocalDateTime.now();
+
+        RoleDeletionJob job = new RoleDeletionJob();
+        job.setRoleId(roleId);
+        job.setReplacementRoleId(replacementRoleId);
+        job.setStatus(RoleDeletionStatus.PENDING);
+        job.setTotalUsers(roleRepository.countUsersWithRole(roleId));
+        job.setCreatedAt(now);
+        job.setUpdatedAt(now);
+        return jobRepository.save(job);
+    }
+
+}
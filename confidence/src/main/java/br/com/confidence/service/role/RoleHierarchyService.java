@@ -0,0 +1,16 @@
+package br.com.confidence.service.role;
+
+import org.springframework.stereotype.Service;
+
+import br.com.confidence.dto.role.RoleAccessResponse;
+
+@Service
+public interface RoleHierarchyService {
+
+    public RoleAccessResponse includeRole(long roleId, long includedRoleId);
+    public RoleAccessResponse excludeRole(long roleId, long includedRoleId);
+    public RoleAccessResponse grantPermission(long roleId, long permissionId);
+    public RoleAccessResponse revokePermission(long roleId, long permissionId);
+    public RoleAccessResponse effectiveAccess(long roleId);
+
+}
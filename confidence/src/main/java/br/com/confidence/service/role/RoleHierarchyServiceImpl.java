@@ -0,0 +1,119 @@
+package br.com.confidence.service.role;
+
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import br.com.confidence.dto.role.RoleAccessResponse;
+import br.com.confidence.exception.permission.PermissionNotFoundException;
+import br.com.confidence.exception.role.RoleHierarchyCycleException;
+import br.com.confidence.exception.role.RoleNotFoundException;
+import br.com.confidence.model.permission.Permission;
+import br.com.confidence.model.role.Role;
+import br.com.confidence.repository.permission.PermissionRepository;
+import br.com.confidence.repository.role.RoleRepository;
+import br.com.confidence.security.AccessClosure;
+import br.com.confidence.security.AccessClosureRegistry;
+import br.com.confidence.security.RoleOrdinals;
+
+@Service
+public class RoleHierarchyServiceImpl implements RoleHierarchyService {
+
+    private final RoleRepository roleRepository;
+    private final PermissionRepository permissionRepository;
+    private final AccessClosureRegistry accessClosures;
+    private final RoleOrdinals roleOrdinals;
+
+    public RoleHierarchyServiceImpl(RoleRepository roleRepository, PermissionRepository permissionRepository,
+            AccessClosureRegistry accessClosures, RoleOrdinals roleOrdinals) {
+        this.roleRepository = roleRepository;
+        this.permissionRepository = permissionRepository;
+        this.accessClosures = accessClosures;
+        this.roleOrdinals = roleOrdinals;
+    }
+
+    @Override
+    @Transactional
+    @PreAuthorize("@permissions.has('roles:grant')")
+    public RoleAccessResponse includeRole(long roleId, long includedRoleId) {
+        Role role = findRole(roleId);
+        Role includedRole = findRole(includedRoleId);
+
+        if (accessClosures.load().includes(roleOrdinals, includedRole.getName(), role.getName())) {
+            throw new RoleHierarchyCycleException("Role inheritance cannot contain cycles");
+        }
+
+        if (role.getIncludedRoles().add(includedRole)) {
+            accessClosures.invalidate();
+        }
+        return toResponse(roleRepository.save(role), preview());
+    }
+
+    @Override
+    @Transactional
+    @PreAuthorize("@permissions.has('roles:grant')")
+    public RoleAccessResponse excludeRole(long roleId, long includedRoleId) {
+        Role role = findRole(roleId);
+        Role includedRole = findRole(includedRoleId);
+
+        if (role.getIncludedRoles().remove(includedRole)) {
+            accessClosures.invalidate();
+        }
+        return toResponse(roleRepository.save(role), preview());
+    }
+
+    @Override
+    @Transactional
+    @PreAuthorize("@permissions.has('roles:grant')")
+    public RoleAccessResponse grantPermission(long roleId, long permissionId) {
+        Role role = findRole(roleId);
+
+        if (role.getPermissions().add(findPermission(permissionId))) {
+            accessClosures.invalidate();
+        }
+        return toResponse(roleRepository.save(role), preview());
+    }
+
+    @Override
+    @Transactional
+    @PreAuthorize("@permissions.has('roles:grant')")
+    public RoleAccessResponse revokePermission(long roleId, long permissionId) {
+        Role role = findRole(roleId);
+
+        if (role.getPermissions().remove(findPermission(permissionId))) {
+            accessClosures.invalidate();
+        }
+        return toResponse(roleRepository.save(role), preview());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public RoleAccessResponse effectiveAccess(long roleId) {
+        return toResponse(findRole(roleId), accessClosures.current());
+    }
+
+    private AccessClosure preview() {
+        roleRepository.flush();
+        return accessClosures.load();
+    }
+
+    private RoleAccessResponse toResponse(Role role, AccessClosure closure) {
+        return new RoleAccessResponse(
+            role.getId(),
+            role.getName(),
+            closure.effectiveRoles(roleOrdinals, role.getName()),
+            closure.effectivePermissions(roleOrdinals, role.getName())
+        );
+    }
+
+    private Role findRole(long id) {
+        return roleRepository.findById(id)
+                .orElseThrow(() -> new RoleNotFoundException("Role not found"));
+    }
+
+    private Permission findPermission(long id) {
+        return permissionRepository.findById(id)
+                .orElseThrow(() -> new PermissionNotFoundException("Permission not found"));
+    }
+
+}
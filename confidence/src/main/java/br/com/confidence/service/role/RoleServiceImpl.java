@@ -9,10 +9,12 @@ import br.com.confidence.dto.role.RoleRequest;
 import br.com.confidence.dto.role.RoleResponse;
 import br.com.confidence.dto.role.RoleUpdateRequest;
 import br.com.confidence.exception.role.RoleAlreadyExistsException;
+import br.com.confidence.exception.role.RoleInUseException;
 import br.com.confidence.exception.role.RoleNotFoundException;
 import br.com.confidence.mapper.role.RoleMapper;
 import br.com.confidence.model.role.Role;
 import br.com.confidence.repository.role.RoleRepository;
+import br.com.confidence.security.AccessClosureRegistry;
 import br.com.confidence.updater.role.RoleUpdater;
 import br.com.confidence.validation.role.RoleValidation;
 
@@ -22,11 +24,14 @@ public class RoleServiceImpl implements RoleService {
     private final RoleRepository roleRepository;
     private final RoleValidation roleValidation;
     private final RoleUpdater roleUpdater;
+    private final AccessClosureRegistry accessClosures;
 
-    public RoleServiceImpl(RoleRepository roleRepository, RoleValidation roleValidation, RoleUpdater roleUpdater) {
+    public RoleServiceImpl(RoleRepository roleRepository, RoleValidation roleValidation, RoleUpdater roleUpdater,
+            AccessClosureRegistry accessClosures) {
         this.roleRepository = roleRepository;
         this.roleValidation = roleValidation;
         this.roleUpdater = roleUpdater;
+        this.accessClosures = accessClosures;
     }
 
     @Override
@@ -39,7 +44,9 @@ public class RoleServiceImpl implements RoleService {
         }
 
         Role role = RoleMapper.toEntity(roleRequest);
-        return RoleMapper.toResponse(roleRepository.save(role));
+        Role savedRole = roleRepository.save(role);
+        accessClosures.invalidate();
+        return RoleMapper.toResponse(savedRole);
     }
 
     @Override
@@ -52,7 +59,9 @@ public class RoleServiceImpl implements RoleService {
         roleValidation.validateRoleUpdateRequestInformation(roleUpdateRequest);
         roleUpdater.updateRoleInformation(role, roleUpdateRequest);
 
-        return RoleMapper.toResponse(roleRepository.save(role));
+        Role savedRole = roleRepository.save(role);
+        accessClosures.invalidate();
+        return RoleMapper.toResponse(savedRole);
     }
 
     private void validateRoleNameUniquenessOnUpdate(long roleId, String newName) {
@@ -70,7 +79,12 @@ public class RoleServiceImpl implements RoleService {
     public void delete(long id) {
         Role role = roleRepository.findById(id)
                 .orElseThrow(() -> new RoleNotFoundException("Role not found"));
+
+        if (roleRepository.countUsersWithRole(id) > 0) {
+            throw new RoleInUseException("Role is assigned to users; delete it with cascade=true");
+        }
         roleRepository.delete(role);
+        accessClosures.invalidate();
     }
 
     @Override
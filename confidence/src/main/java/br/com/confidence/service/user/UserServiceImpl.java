@@ -1,7 +1,12 @@
 package br.com.confidence.service.user;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Locale;
 
+import org.hibernate.exception.ConstraintViolationException;
+
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -18,6 +23,7 @@ import br.com.confidence.exception.user.UserNotFoundException;
 import br.com.confidence.mapper.user.UserMapper;
 import br.com.confidence.model.role.Role;
 import br.com.confidence.model.user.User;
+import br.com.confidence.repository.auth.PasswordResetTokenRepository;
 import br.com.confidence.repository.role.RoleRepository;
 import br.com.confidence.repository.user.UserRepository;
 import br.com.confidence.updater.user.UserUpdater;
@@ -26,19 +32,24 @@ import br.com.confidence.validation.user.UserValidation;
 @Service
 public class UserServiceImpl implements UserService {
 
+    private static final String EMAIL_UNIQUE_INDEX = "ux_users_email_normalized";
+
     private final UserRepository userRepository;
     private final RoleRepository roleRepository;
     private final UserValidation userValidation;
     private final UserUpdater userUpdater;
     private final PasswordEncoder passwordEncoder;
+    private final PasswordResetTokenRepository passwordResetTokenRepository;
 
     public UserServiceImpl(UserRepository userRepository, RoleRepository roleRepository,
-            UserValidation userValidation, UserUpdater userUpdater, PasswordEncoder passwordEncoder) {
+            UserValidation userValidation, UserUpdater userUpdater, PasswordEncoder passwordEncoder,
+            PasswordResetTokenRepository passwordResetTokenRepository) {
         this.userRepository = userRepository;
         this.roleRepository = roleRepository;
         this.userValidation = userValidation;
         this.userUpdater = userUpdater;
         this.passwordEncoder = passwordEncoder;
+        this.passwordResetTokenRepository = passwordResetTokenRepository;
     }
 
     @Override
@@ -46,10 +57,6 @@ public class UserServiceImpl implements UserService {
     public UserResponse create(UserRequest userRequest) {
         userValidation.validateUserRequest(userRequest);
 
-        if (userRepository.existsByEmail(userRequest.email())) {
-            throw new UserAlreadyExistsException("User already exists with this email");
-        }
-
         List<Role> roles = roleRepository.findByName("USER");
         Role defaultRole = roles.stream()
                 .findFirst()
@@ -59,7 +66,7 @@ public class UserServiceImpl implements UserService {
         user.setPassword(passwordEncoder.encode(userRequest.password()));
         user.setRoles(List.of(defaultRole));
 
-        User savedUser = userRepository.save(user);
+        User savedUser = saveEnforcingUniqueEmail(user);
 
         return UserMapper.toResponse(savedUser);
     }
@@ -87,21 +94,35 @@ public class UserServiceImpl implements UserService {
 
         String newEmail = userRequest.email();
         userValidation.validateEmailUserRequest(newEmail);
-        validateEmailUniquenessForUpdate(user, newEmail);
 
         userUpdater.updateEmail(user, newEmail);
 
-        User savedUser = userRepository.save(user);
+        User savedUser = saveEnforcingUniqueEmail(user);
 
         return UserMapper.toResponse(savedUser);
     }
 
-    private void validateEmailUniquenessForUpdate(User user, String newEmail) {
-        if (!newEmail.equals(user.getEmail()) && userRepository.existsByEmail(newEmail)) {
+    private User saveEnforcingUniqueEmail(User user) {
+        try {
+            return userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException ex) {
+            if (!violatesEmailUniqueness(ex)) {
+                throw ex;
+            }
             throw new UserAlreadyExistsException("User already exists with this email");
         }
     }
 
+    private static boolean violatesEmailUniqueness(DataIntegrityViolationException ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                String name = violation.getConstraintName().toLowerCase(Locale.ROOT);
+                return EMAIL_UNIQUE_INDEX.equals(name.substring(name.lastIndexOf('.') + 1));
+            }
+        }
+        return false;
+    }
+
     @Override
     @Transactional
     public UserResponse updatePassword(UserPasswordUpdateRequest userRequest, long id) {
@@ -130,7 +151,8 @@ public class UserServiceImpl implements UserService {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new UserNotFoundException("User not found"));
 
-        userRepository.delete(user);
+        passwordResetTokenRepository.deleteByUserId(user.getId());
+        userRepository.softDelete(user.getId(), LocalDateTime.now());
     }
 
     @Override
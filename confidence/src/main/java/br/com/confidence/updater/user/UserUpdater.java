@@ -3,6 +3,7 @@ package br.com.confidence.updater.user;
 import org.springframework.stereotype.Component;
 
 import br.com.confidence.model.user.User;
+import br.com.confidence.normalizer.user.EmailNormalizer;
 
 @Component
 public class UserUpdater {
@@ -12,7 +13,7 @@ public class UserUpdater {
     }
 
     public void updateEmail(User user, String newEmail) {
-        user.setEmail(newEmail);
+        user.setEmail(EmailNormalizer.canonicalize(newEmail));
     }
 
     public void updatePassword(User user, String newPassword) {
@@ -0,0 +1,161 @@
+package br.com.confidence.validation.user;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Iterator;
+
+public class BreachedPasswordDatabase implements Closeable {
+
+    static final long MAGIC = 0x4346425245414348L;
+    static final int HEADER_SIZE = 16;
+    static final int RECORD_SIZE = 20;
+    private static final int RECORDS_PER_SEGMENT = Integer.MAX_VALUE / RECORD_SIZE;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer[] segments;
+    private final long count;
+
+    private BreachedPasswordDatabase(FileChannel channel, MappedByteBuffer[] segments, long count) {
+        this.channel = channel;
+        this.segments = segments;
+        this.count = count;
+    }
+
+    public static BreachedPasswordDatabase empty() {
+        return new BreachedPasswordDatabase(null, new MappedByteBuffer[0], 0);
+    }
+
+    public static BreachedPasswordDatabase open(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            channel.read(header, 0);
+            header.flip();
+            if (header.remaining() < HEADER_SIZE || header.getLong() != MAGIC) {
+                throw new IOException(file + " is not a breached password database");
+            }
+
+            long count = header.getLong();
+            if (channel.size() != HEADER_SIZE + count * RECORD_SIZE) {
+                throw new IOException(file + " is truncated: expected " + count + " records");
+            }
+
+            int segmentCount = (int) ((count + RECORDS_PER_SEGMENT - 1) / RECORDS_PER_SEGMENT);
+            MappedByteBuffer[] segments = new MappedByteBuffer[segmentCount];
+            for (int i = 0; i < segmentCount; i++) {
+                long first = (long) i * RECORDS_PER_SEGMENT;
+                long records = Math.min(RECORDS_PER_SEGMENT, count - first);
+                segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_SIZE + first * RECORD_SIZE,
+                        records * RECORD_SIZE);
+            }
+            return new BreachedPasswordDatabase(channel, segments, count);
+        } catch (IOException | RuntimeException ex) {
+            channel.close();
+            throw ex;
+        }
+    }
+
+    public static long write(Path file, Iterator<byte[]> sortedDigests) throws IOException {
+        long count = 0;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel.position(HEADER_SIZE)), 1 << 16);
+            byte[] previous = null;
+            while (sortedDigests.hasNext()) {
+                byte[] digest = sortedDigests.next();
+                if (digest.length != RECORD_SIZE) {
+                    throw new IllegalArgumentException("Expected SHA-1 digests of " + RECORD_SIZE + " bytes");
+                }
+                if (previous != null) {
+                    int order = Arrays.compareUnsigned(previous, digest);
+                    if (order > 0) {
+                        throw new IllegalArgumentException("Digests must be written in ascending order");
+                    }
+                    if (order == 0) {
+                        continue;
+                    }
+                }
+                out.write(digest);
+                previous = digest;
+                count++;
+            }
+            out.flush();
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).putLong(MAGIC).putLong(count).flip();
+            channel.write(header, 0);
+            channel.force(true);
+        }
+        return count;
+    }
+
+    public boolean isBreached(String password) {
+        if (count == 0 || password == null) {
+            return false;
+        }
+        return contains(sha1().digest(password.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    boolean contains(byte[] digest) {
+        ByteBuffer key = ByteBuffer.wrap(digest);
+        long high = key.getLong(0);
+        long middle = key.getLong(8);
+        int low = key.getInt(16);
+
+        long from = 0;
+        long to = count - 1;
+        while (from <= to) {
+            long mid = (from + to) >>> 1;
+            MappedByteBuffer segment = segments[(int) (mid / RECORDS_PER_SEGMENT)];
+            int offset = (int) (mid % RECORDS_PER_SEGMENT) * RECORD_SIZE;
+
+            int order = Long.compareUnsigned(segment.getLong(offset), high);
+            if (order == 0) {
+                order = Long.compareUnsigned(segment.getLong(offset + 8), middle);
+            }
+            if (order == 0) {
+                order = Integer.compareUnsigned(segment.getInt(offset + 16), low);
+            }
+
+            if (order < 0) {
+                from = mid + 1;
+            } else if (order > 0) {
+                to = mid - 1;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public long size() {
+        return count;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+        }
+    }
+
+    static MessageDigest sha1() {
+        try {
+            return MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+}
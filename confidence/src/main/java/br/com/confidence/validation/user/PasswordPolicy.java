@@ -0,0 +1,228 @@
+package br.com.confidence.validation.user;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import br.com.confidence.exception.user.InvalidUserPasswordException;
+
+public class PasswordPolicy {
+
+    private static final int BCRYPT_MAX_BYTES = 72;
+
+    public enum Violation {
+        TOO_SHORT, TOO_LONG, MISSING_UPPERCASE, MISSING_LOWERCASE, MISSING_DIGIT, MISSING_SPECIAL,
+        REPEATED_CHARACTERS, SEQUENTIAL_CHARACTERS, BANNED_WORD;
+
+        private int bit() {
+            return 1 << ordinal();
+        }
+    }
+
+    private final PasswordPolicyProperties properties;
+    private final BitSet specialCharacters = new BitSet();
+    private final char[] alphabet;
+    private final int[] transitions;
+    private final boolean[] matches;
+
+    public PasswordPolicy(PasswordPolicyProperties properties) {
+        this.properties = properties;
+        properties.specialCharacters().chars().forEach(specialCharacters::set);
+
+        List<String> bannedWords = properties.bannedWords().stream()
+                .filter(word -> word != null && !word.isBlank())
+                .map(word -> word.strip().toLowerCase(Locale.ROOT))
+                .toList();
+
+        Set<Character> symbols = new TreeSet<>();
+        bannedWords.forEach(word -> word.chars().forEach(ch -> symbols.add((char) ch)));
+        this.alphabet = new char[symbols.size()];
+        int index = 0;
+        for (char symbol : symbols) {
+            alphabet[index++] = symbol;
+        }
+
+        List<int[]> trie = new ArrayList<>();
+        List<Boolean> terminal = new ArrayList<>();
+        trie.add(emptyRow());
+        terminal.add(false);
+        for (String word : bannedWords) {
+            int state = 0;
+            for (int i = 0; i < word.length(); i++) {
+                int symbol = Arrays.binarySearch(alphabet, word.charAt(i));
+                if (trie.get(state)[symbol] < 0) {
+                    trie.get(state)[symbol] = trie.size();
+                    trie.add(emptyRow());
+                    terminal.add(false);
+                }
+                state = trie.get(state)[symbol];
+            }
+            terminal.set(state, true);
+        }
+
+        int width = alphabet.length;
+        this.transitions = new int[trie.size() * width];
+        this.matches = new boolean[trie.size()];
+        int[] failure = new int[trie.size()];
+        Queue<Integer> queue = new ArrayDeque<>();
+
+        for (int symbol = 0; symbol < width; symbol++) {
+            int next = trie.get(0)[symbol];
+            transitions[symbol] = Math.max(next, 0);
+            if (next > 0) {
+                queue.add(next);
+            }
+        }
+        matches[0] = terminal.get(0);
+
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            matches[state] = terminal.get(state) || matches[failure[state]];
+            for (int symbol = 0; symbol < width; symbol++) {
+                int next = trie.get(state)[symbol];
+                if (next < 0) {
+                    transitions[state * width + symbol] = transitions[failure[state] * width + symbol];
+                } else {
+                    failure[next] = transitions[failure[state] * width + symbol];
+                    transitions[state * width + symbol] = next;
+                    queue.add(next);
+                }
+            }
+        }
+    }
+
+    public void check(String password) {
+        int violations = evaluate(password);
+        if (violations != 0) {
+            throw new InvalidUserPasswordException(describe(violations));
+        }
+    }
+
+    public Set<Violation> violations(CharSequence password) {
+        return toSet(evaluate(password));
+    }
+
+    int evaluate(CharSequence password) {
+        int length = password.length();
+        int violations = 0;
+        if (length < properties.minLength()) {
+            violations |= Violation.TOO_SHORT.bit();
+        }
+
+        boolean uppercase = false;
+        boolean lowercase = false;
+        boolean digit = false;
+        boolean special = false;
+        int repeated = 1;
+        int ascending = 1;
+        int descending = 1;
+        int state = 0;
+        int encodedBytes = 0;
+        char previous = 0;
+
+        for (int i = 0; i < length; i++) {
+            char current = password.charAt(i);
+            char folded = Character.toLowerCase(current);
+            encodedBytes += current < 0x80 ? 1 : current < 0x800 || Character.isSurrogate(current) ? 2 : 3;
+
+            uppercase |= Character.isUpperCase(current);
+            lowercase |= Character.isLowerCase(current);
+            digit |= Character.isDigit(current);
+            special |= specialCharacters.get(current);
+
+            if (i > 0) {
+                repeated = current == previous ? repeated + 1 : 1;
+                boolean sequenceCandidate = Character.isLetterOrDigit(current) && Character.isLetterOrDigit(previous);
+                char previousFolded = Character.toLowerCase(previous);
+                ascending = sequenceCandidate && folded == previousFolded + 1 ? ascending + 1 : 1;
+                descending = sequenceCandidate && folded == previousFolded - 1 ? descending + 1 : 1;
+
+                if (properties.maxRepeatedChars() > 0 && repeated > properties.maxRepeatedChars()) {
+                    violations |= Violation.REPEATED_CHARACTERS.bit();
+                }
+                if (properties.maxSequenceLength() > 0
+                        && Math.max(ascending, descending) > properties.maxSequenceLength()) {
+                    violations |= Violation.SEQUENTIAL_CHARACTERS.bit();
+                }
+            }
+
+            if (alphabet.length > 0) {
+                int symbol = Arrays.binarySearch(alphabet, folded);
+                state = symbol < 0 ? 0 : transitions[state * alphabet.length + symbol];
+                if (matches[state]) {
+                    violations |= Violation.BANNED_WORD.bit();
+                }
+            }
+
+            previous = current;
+        }
+
+        if (encodedBytes > maxBytes()) {
+            violations |= Violation.TOO_LONG.bit();
+        }
+        if (properties.requireUppercase() && !uppercase) {
+            violations |= Violation.MISSING_UPPERCASE.bit();
+        }
+        if (properties.requireLowercase() && !lowercase) {
+            violations |= Violation.MISSING_LOWERCASE.bit();
+        }
+        if (properties.requireDigit() && !digit) {
+            violations |= Violation.MISSING_DIGIT.bit();
+        }
+        if (properties.requireSpecial() && !special) {
+            violations |= Violation.MISSING_SPECIAL.bit();
+        }
+        return violations;
+    }
+
+    private int maxBytes() {
+        return properties.maxLength() > 0 ? Math.min(properties.maxLength(), BCRYPT_MAX_BYTES) : BCRYPT_MAX_BYTES;
+    }
+
+    private Set<Violation> toSet(int violations) {
+        Set<Violation> result = EnumSet.noneOf(Violation.class);
+        for (Violation violation : Violation.values()) {
+            if ((violations & violation.bit()) != 0) {
+                result.add(violation);
+            }
+        }
+        return result;
+    }
+
+    private String describe(int violations) {
+        return toSet(violations).stream()
+                .map(this::message)
+                .collect(Collectors.joining("; "));
+    }
+
+    private String message(Violation violation) {
+        return switch (violation) {
+            case TOO_SHORT -> "Password must have at least " + properties.minLength() + " characters";
+            case TOO_LONG -> "Password must have at most " + maxBytes() + " bytes";
+            case MISSING_UPPERCASE -> "Password must contain at least one uppercase letter";
+            case MISSING_LOWERCASE -> "Password must contain at least one lowercase letter";
+            case MISSING_DIGIT -> "Password must contain at least one digit";
+            case MISSING_SPECIAL -> "Password must contain at least one special character";
+            case REPEATED_CHARACTERS -> "Password must not repeat the same character more than "
+                    + properties.maxRepeatedChars() + " times in a row";
+            case SEQUENTIAL_CHARACTERS -> "Password must not contain sequences longer than "
+                    + properties.maxSequenceLength() + " characters";
+            case BANNED_WORD -> "Password must not contain common or banned words";
+        };
+    }
+
+    private int[] emptyRow() {
+        int[] row = new int[alphabet.length];
+        Arrays.fill(row, -1);
+        return row;
+    }
+
+}
@@ -0,0 +1,20 @@
+package br.com.confidence.validation.user;
+
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("app.password-policy")
+public record PasswordPolicyProperties(
+        @DefaultValue("8") int minLength,
+        @DefaultValue("72") int maxLength,
+        @DefaultValue("true") boolean requireUppercase,
+        @DefaultValue("true") boolean requireLowercase,
+        @DefaultValue("true") boolean requireDigit,
+        @DefaultValue("true") boolean requireSpecial,
+        @DefaultValue("!@#$%^&*()_+-={}[]:;\"'<>,.?/") String specialCharacters,
+        @DefaultValue("3") int maxRepeatedChars,
+        @DefaultValue("5") int maxSequenceLength,
+        @DefaultValue List<String> bannedWords) {
+}
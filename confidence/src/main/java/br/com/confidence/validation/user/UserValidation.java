@@ -10,6 +10,14 @@ import br.com.confidence.exception.user.InvalidUsernameException;
 @Component
 public class UserValidation {
 
+    private final PasswordPolicy passwordPolicy;
+    private final BreachedPasswordDatabase breachedPasswords;
+
+    public UserValidation(PasswordPolicy passwordPolicy, BreachedPasswordDatabase breachedPasswords) {
+        this.passwordPolicy = passwordPolicy;
+        this.breachedPasswords = breachedPasswords;
+    }
+
     public void validateUserRequest(UserRequest userRequest) {
         validateNameUserRequest(userRequest.name());
         validateEmailUserRequest(userRequest.email());
@@ -31,46 +39,20 @@ public class UserValidation {
 
     public void validatePasswordUserRequest(String password) {
         validateEmptyOrNullPasswordUserRequest(password);
-        validatePasswordLength(password);
-        validateUppercaseLetterInPasswordUserRequest(password);
-        validateLowercaseLetterInPasswordUserRequest(password);
-        validateNumberContainedInPasswordUserRequest(password);
-        validateSpecialCharacterInPasswordUserRequest(password);
+        passwordPolicy.check(password);
+        validatePasswordNotBreached(password);
     }
 
-    public void validateEmptyOrNullPasswordUserRequest(String password) {
-        if (password == null || password.isBlank()) {
-            throw new InvalidUserPasswordException("Password cannot be null or empty");
+    public void validatePasswordNotBreached(String password) {
+        if (breachedPasswords.isBreached(password)) {
+            throw new InvalidUserPasswordException(
+                    "Password has appeared in a known data breach. Please choose a different password");
         }
     }
 
-    public void validatePasswordLength(String password) {
-        if (password.length() < 8) {
-            throw new InvalidUserPasswordException("Password must have at least 8 characters");
-        }
-    }
-
-    public void validateUppercaseLetterInPasswordUserRequest(String password) {
-        if (!password.matches(".*[A-Z].*")) {
-            throw new InvalidUserPasswordException("Password must contain at least one uppercase letter");
-        }
-    }
-
-    public void validateLowercaseLetterInPasswordUserRequest(String password) {
-        if (!password.matches(".*[a-z].*")) {
-            throw new InvalidUserPasswordException("Password must contain at least one lowercase letter");
-        }
-    }
-
-    public void validateNumberContainedInPasswordUserRequest(String password) {
-        if (!password.matches(".*\\d.*")) {
-            throw new InvalidUserPasswordException("Password must contain at least one digit");
-        }
-    }
-
-    public void validateSpecialCharacterInPasswordUserRequest(String password) {
-        if (!password.matches(".*[!@#$%^&*()_+\\-={}\\[\\]:;\"'<>,.?/].*")) {
-            throw new InvalidUserPasswordException("Password must contain at least one special character");
+    public void validateEmptyOrNullPasswordUserRequest(String password) {
+        if (password == null || password.isBlank()) {
+            throw new InvalidUserPasswordException("Password cannot be null or empty");
         }
     }
 }
@@ -0,0 +1,127 @@
+package br.com.confidence.warmup;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.confidence.dto.authentication.AuthenticationResponse;
+import br.com.confidence.dto.authentication.UserMeResponseDTO;
+import br.com.confidence.dto.user.UserRequest;
+import br.com.confidence.mapper.user.UserMapper;
+import br.com.confidence.model.role.Role;
+import br.com.confidence.model.user.User;
+import br.com.confidence.repository.user.UserRepository;
+import br.com.confidence.security.TokenService;
+import br.com.confidence.validation.user.UserValidation;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Runs before ApplicationReadyEvent, so the readiness probe stays REFUSING_TRAFFIC until the hot paths are compiled.
+@Component
+@ConditionalOnProperty(name = "app.warmup.enabled", havingValue = "true", matchIfMissing = true)
+public class WarmupRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(WarmupRunner.class);
+
+    private static final String WARMUP_EMAIL = "warmup.user@confidence.invalid";
+    private static final String WARMUP_PASSWORD = "Warmup@Password123";
+
+    // Untimed and private, so warming the login path never feeds the auth meters or JFR events
+    private final PasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+    private final TokenService tokenService;
+    private final UserRepository userRepository;
+    private final UserValidation userValidation;
+    private final ObjectMapper objectMapper;
+    private final AtomicLong lastDurationMs = new AtomicLong();
+
+    @Value("${app.warmup.iterations:500}")
+    private int iterations;
+
+    @Value("${app.warmup.password-hash-iterations:20}")
+    private int passwordHashIterations;
+
+    @Value("${app.warmup.max-duration:PT30S}")
+    private Duration maxDuration;
+
+    public WarmupRunner(TokenService tokenService, UserRepository userRepository, UserValidation userValidation,
+            ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.tokenService = tokenService;
+        this.userRepository = userRepository;
+        this.userValidation = userValidation;
+        this.objectMapper = objectMapper;
+
+        Gauge.builder("application.warmup.duration", lastDurationMs, AtomicLong::get)
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        long start = System.nanoTime();
+        long deadline = start + maxDuration.toNanos();
+        User user = warmupUser();
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider(new InMemoryUserDetailsManager(user));
+        provider.setPasswordEncoder(passwordEncoder);
+
+        int completed = 0;
+        while (completed < iterations && System.nanoTime() < deadline) {
+            warmOnce(user, provider, completed < passwordHashIterations);
+            completed++;
+        }
+
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        lastDurationMs.set(elapsedMs);
+        log.info("Warmup finished {} of {} iterations in {} ms", completed, iterations, elapsedMs);
+    }
+
+    private void warmOnce(User user, DaoAuthenticationProvider provider, boolean hashPasswords)
+            throws JsonProcessingException {
+        String token = tokenService.generateToken(user);
+        tokenService.validateToken(token);
+
+        userValidation.validateUserRequest(new UserRequest(user.getName(), user.getEmail(), WARMUP_PASSWORD));
+        userRepository.findByEmail(WARMUP_EMAIL);
+
+        objectMapper.writeValueAsString(UserMapper.toResponse(user));
+        objectMapper.writeValueAsString(new AuthenticationResponse(token));
+        objectMapper.writeValueAsString(new UserMeResponseDTO(user.getId(), user.getName(), user.getEmail(), Set.of("ROLE_USER")));
+
+        if (hashPasswords) {
+            provider.authenticate(new UsernamePasswordAuthenticationToken(WARMUP_EMAIL, WARMUP_PASSWORD));
+        }
+    }
+
+    private User warmupUser() {
+        Role role = new Role();
+        role.setName("USER");
+
+        User user = new User();
+        user.setId(-1L);
+        user.setName("Warmup User");
+        user.setEmail(WARMUP_EMAIL);
+        user.setPassword(passwordEncoder.encode(WARMUP_PASSWORD));
+        user.setRoles(List.of(role));
+        user.setCreatedAt(LocalDateTime.now());
+        user.setUpdatedAt(LocalDateTime.now());
+        return user;
+    }
+}
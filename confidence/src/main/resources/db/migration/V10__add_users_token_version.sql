@@ -0,0 +1,2 @@
+-- Incremented whenever a user's roles change so previously issued tokens stop being accepted
+ALTER TABLE users ADD COLUMN token_version INT NOT NULL DEFAULT 0;
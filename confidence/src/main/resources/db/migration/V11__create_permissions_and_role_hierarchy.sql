@@ -0,0 +1,38 @@
+-- Fine-grained permissions granted to roles, and role inheritance where a parent role includes its children
+CREATE TABLE permissions (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    name VARCHAR(255) NOT NULL,
+    description VARCHAR(255),
+    UNIQUE (name)
+);
+
+CREATE TABLE role_permission (
+    role_id BIGINT NOT NULL,
+    permission_id BIGINT NOT NULL,
+    PRIMARY KEY (role_id, permission_id),
+    CONSTRAINT fk_role_permission_role FOREIGN KEY (role_id) REFERENCES roles (id) ON DELETE CASCADE,
+    CONSTRAINT fk_role_permission_permission FOREIGN KEY (permission_id) REFERENCES permissions (id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_role_permission_permission ON role_permission (permission_id);
+
+CREATE TABLE role_hierarchy (
+    parent_role_id BIGINT NOT NULL,
+    child_role_id BIGINT NOT NULL,
+    PRIMARY KEY (parent_role_id, child_role_id),
+    CONSTRAINT fk_role_hierarchy_parent FOREIGN KEY (parent_role_id) REFERENCES roles (id) ON DELETE CASCADE,
+    CONSTRAINT fk_role_hierarchy_child FOREIGN KEY (child_role_id) REFERENCES roles (id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_role_hierarchy_child ON role_hierarchy (child_role_id);
+
+INSERT INTO permissions (name, description)
+VALUES ('permissions:read', 'List and inspect permissions'),
+       ('permissions:write', 'Create, update and delete permissions'),
+       ('roles:grant', 'Change role inheritance and role permissions');
+
+INSERT INTO role_permission (role_id, permission_id)
+SELECT r.id, p.id FROM roles r CROSS JOIN permissions p WHERE r.name = 'ADMIN';
+
+INSERT INTO role_hierarchy (parent_role_id, child_role_id)
+SELECT a.id, u.id FROM roles a CROSS JOIN roles u WHERE a.name = 'ADMIN' AND u.name = 'USER';
@@ -0,0 +1,17 @@
+-- Background jobs that unlink a role from its users in batches before deleting it
+CREATE TABLE role_deletion_jobs (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    role_id BIGINT NOT NULL,
+    replacement_role_id BIGINT,
+    status VARCHAR(20) NOT NULL,
+    total_users BIGINT NOT NULL,
+    processed_users BIGINT NOT NULL DEFAULT 0,
+    error_message VARCHAR(255),
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    completed_at TIMESTAMP NULL
+);
+
+CREATE INDEX idx_role_deletion_jobs_status ON role_deletion_jobs (status, id);
+CREATE INDEX idx_role_deletion_jobs_role ON role_deletion_jobs (role_id);
+CREATE INDEX idx_user_role_role ON user_role (role_id, user_id);
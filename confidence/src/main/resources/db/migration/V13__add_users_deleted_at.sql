@@ -0,0 +1,4 @@
+-- Soft-delete marker; rows are hard-deleted later by the deleted user reaper
+ALTER TABLE users ADD COLUMN deleted_at TIMESTAMP NULL;
+
+CREATE INDEX idx_users_deleted_at ON users (deleted_at);
@@ -0,0 +1,23 @@
+-- The application now writes email_normalized with the same Java normalization it looks users up with,
+-- instead of the database deriving it with its own LOWER(). Existing rows keep the key they already had.
+ALTER TABLE users DROP COLUMN email_normalized;
+
+ALTER TABLE users ADD COLUMN email_normalized VARCHAR(255) NOT NULL DEFAULT '';
+
+UPDATE users SET email_normalized = LOWER(email);
+
+ALTER TABLE users ALTER COLUMN email_normalized DROP DEFAULT;
+
+CREATE UNIQUE INDEX ux_users_email_normalized ON users (email_normalized);
+
+-- V1's unnamed UNIQUE (email) is implied by ux_users_email_normalized. Its generated name differs per database,
+-- so the column is rebuilt without it and duplicates always report ux_users_email_normalized.
+ALTER TABLE users ADD COLUMN email_unconstrained VARCHAR(255) NOT NULL DEFAULT '';
+
+UPDATE users SET email_unconstrained = email;
+
+ALTER TABLE users DROP COLUMN email;
+
+ALTER TABLE users RENAME COLUMN email_unconstrained TO email;
+
+ALTER TABLE users ALTER COLUMN email DROP DEFAULT;
@@ -0,0 +1,6 @@
+-- Case-insensitive lookup key. The application stores emails already NFKC-normalized,
+-- so lowercasing here yields the same key the repository searches with.
+ALTER TABLE users
+    ADD COLUMN email_normalized VARCHAR(255) GENERATED ALWAYS AS (LOWER(email));
+
+CREATE UNIQUE INDEX ux_users_email_normalized ON users (email_normalized);
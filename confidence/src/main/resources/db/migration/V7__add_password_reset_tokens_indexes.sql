@@ -0,0 +1,11 @@
+-- Keep only the most recent token per user before enforcing one token per user
+DELETE FROM password_reset_tokens
+WHERE id NOT IN (
+    SELECT latest.id FROM (
+        SELECT MAX(id) AS id FROM password_reset_tokens GROUP BY user_id
+    ) AS latest
+);
+
+CREATE UNIQUE INDEX ux_password_reset_tokens_user_id ON password_reset_tokens (user_id);
+
+CREATE INDEX idx_password_reset_tokens_expiry_date ON password_reset_tokens (expiry_date);
@@ -0,0 +1,8 @@
+-- Fingerprint of the migration scripts last applied by the migrator, verified by application nodes on startup
+CREATE TABLE schema_fingerprint (
+    id TINYINT NOT NULL,
+    checksum VARCHAR(64) NOT NULL,
+    script_count INT NOT NULL,
+    updated_at TIMESTAMP(3) NOT NULL,
+    PRIMARY KEY (id)
+);
@@ -0,0 +1,39 @@
+package br.com.confidence.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import br.com.confidence.metrics.auth.AuthMetrics;
+import br.com.confidence.service.email.EmailService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class AsyncConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+            .withBean(AuthMetrics.class)
+            .withUserConfiguration(AsyncConfig.class);
+
+    @Test
+    void shouldKeepCallsSynchronousWhenVirtualThreadsAreDisabled() {
+        contextRunner.run(context -> assertThat(context).doesNotHaveBean(AsyncConfig.class));
+    }
+
+    @Test
+    void shouldCountAsyncFailuresWhenVirtualThreadsAreEnabled() throws Exception {
+        contextRunner.withPropertyValues("spring.threads.virtual.enabled=true").run(context -> {
+            AsyncConfig config = context.getBean(AsyncConfig.class);
+
+            config.getAsyncUncaughtExceptionHandler().handleUncaughtException(new IllegalStateException("smtp down"),
+                    EmailService.class.getMethod("sendSimpleMail", String.class, String.class, String.class));
+
+            assertThat(context.getBean(MeterRegistry.class).counter(AuthMetrics.ASYNC_FAILURE,
+                    "method", "EmailService.sendSimpleMail", "exception", "IllegalStateException").count())
+                    .isEqualTo(1.0);
+        });
+    }
+
+}
@@ -0,0 +1,48 @@
+package br.com.confidence.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import br.com.confidence.dto.error.ErrorResponse;
+
+public class ErrorPayloadsTest {
+
+    private final ErrorPayloads errorPayloads = new ErrorPayloads();
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Test
+    void shouldRenderPayloadReadableAsErrorResponse() throws IOException {
+        byte[] payload = errorPayloads.render(HttpStatus.NOT_FOUND, "User not found", "/users/42");
+
+        ErrorResponse response = objectMapper.readValue(payload, ErrorResponse.class);
+
+        assertNotNull(response.timestamp());
+        assertEquals(404, response.status());
+        assertEquals("Not Found", response.error());
+        assertEquals("User not found", response.message());
+        assertEquals("/users/42", response.path());
+    }
+
+    @Test
+    void shouldEscapeMessageAndPath() throws IOException {
+        byte[] first = errorPayloads.render(HttpStatus.CONFLICT, "Role \"ADMIN\" already exists", "/roles/\"x\"");
+        byte[] second = errorPayloads.render(HttpStatus.UNAUTHORIZED, null, "/auth/me");
+
+        ErrorResponse conflict = objectMapper.readValue(first, ErrorResponse.class);
+        ErrorResponse unauthorized = objectMapper.readValue(second, ErrorResponse.class);
+
+        assertEquals("Role \"ADMIN\" already exists", conflict.message());
+        assertEquals("/roles/\"x\"", conflict.path());
+        assertNull(unauthorized.message());
+    }
+
+}
@@ -16,14 +16,24 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
@@ -32,15 +42,24 @@ import br.com.confidence.dto.authentication.AuthenticationRequest;
 import br.com.confidence.dto.authentication.ForgotPasswordRequestDTO;
 import br.com.confidence.dto.authentication.RegisterRequest;
 import br.com.confidence.dto.authentication.ResetPasswordRequestDTO;
+import br.com.confidence.metrics.auth.AuthMetrics;
 import br.com.confidence.model.auth.PasswordResetToken;
 import br.com.confidence.model.user.User;
 import br.com.confidence.service.email.EmailService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
 
 public class AuthControllerIT extends BaseIntegrationTests {
 
 	@MockBean
 	private EmailService emailService;
 
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
 	@Captor
 	private ArgumentCaptor<String> toCaptor;
 
@@ -117,6 +136,29 @@ public class AuthControllerIT extends BaseIntegrationTests {
 					.andExpect(status().isBadRequest());
 		}
 
+		@Test
+		void shouldRegisterAndLoginWithNonAsciiEmailInAnyCaseOrForm() throws Exception {
+			createUserRoleForTest();
+
+			RegisterRequest registerRequest = new RegisterRequest(
+					"ADMIN_USER",
+					"jo\u00e3o.admin@gmail.com",
+					"SenhaSegura@123");
+
+			mockMvc.perform(post("/auth/register")
+					.contentType(MediaType.APPLICATION_JSON)
+					.content(objectMapper.writeValueAsString(registerRequest)))
+					.andDo(print())
+					.andExpect(status().isCreated());
+
+			AuthenticationRequest login = new AuthenticationRequest("JOA\u0303O.Admin@\uff47mail.com", "SenhaSegura@123");
+
+			mockMvc.perform(post("/auth/login")
+					.contentType(MediaType.APPLICATION_JSON)
+					.content(objectMapper.writeValueAsString(login)))
+					.andExpect(status().isOk());
+		}
+
 		@Test
 		void mustReturnStatus400WhenRegisteringUserWithEmptyEmail() throws Exception {
 
@@ -255,6 +297,7 @@ public class AuthControllerIT extends BaseIntegrationTests {
 
 		@Test
 		void shouldReturnStatus409WhenRegisteringUserWithAlreadyRegisteredEmail() throws Exception {
+			createUserRoleForTest();
 			createAdminUserForTest();
 
 			RegisterRequest registerRequest = new RegisterRequest(
@@ -270,6 +313,70 @@ public class AuthControllerIT extends BaseIntegrationTests {
 
 		}
 
+		@Test
+		void shouldCreateExactlyOneUserWhenSameEmailIsRegisteredConcurrently() throws Exception {
+			createUserRoleForTest();
+
+			int concurrentRequests = 8;
+			String requestBody = objectMapper.writeValueAsString(new RegisterRequest(
+					"CONCURRENT_USER",
+					"concurrent.user@email.com",
+					"SenhaSegura@123"));
+
+			ExecutorService executor = Executors.newFixedThreadPool(concurrentRequests);
+			CountDownLatch startSignal = new CountDownLatch(1);
+			List<Future<Integer>> statuses = new ArrayList<>();
+
+			try {
+				for (int i = 0; i < concurrentRequests; i++) {
+					statuses.add(executor.submit(() -> {
+						startSignal.await();
+						return mockMvc.perform(post("/auth/register")
+								.contentType(MediaType.APPLICATION_JSON)
+								.content(requestBody))
+								.andReturn()
+								.getResponse()
+								.getStatus();
+					}));
+				}
+				startSignal.countDown();
+
+				int created = 0;
+				int conflicts = 0;
+				for (Future<Integer> status : statuses) {
+					int code = status.get(30, TimeUnit.SECONDS);
+					if (code == 201) {
+						created++;
+					} else if (code == 409) {
+						conflicts++;
+					}
+				}
+
+				assertEquals(1, created);
+				assertEquals(concurrentRequests - 1, conflicts);
+				assertEquals(1, userRepository.count());
+			} finally {
+				executor.shutdownNow();
+			}
+		}
+
+		@Test
+		void shouldReturnStatus409WhenRegisteringEmailThatDiffersOnlyByCase() throws Exception {
+			createUserRoleForTest();
+			createAdminUserForTest();
+
+			RegisterRequest registerRequest = new RegisterRequest(
+					"ADMIN_USER",
+					"Admin@GMAIL.com",
+					"SuaSenha@12345");
+
+			mockMvc.perform(post("/auth/register")
+					.contentType(MediaType.APPLICATION_JSON)
+					.content(objectMapper.writeValueAsString(registerRequest)))
+					.andDo(print())
+					.andExpect(status().isConflict());
+		}
+
 	}
 
 	@Nested
@@ -292,6 +399,20 @@ public class AuthControllerIT extends BaseIntegrationTests {
 					.andExpect(jsonPath("$.token").exists());
 		}
 
+		@Test
+		void shouldReturnStatus200WhenLoginEmailDiffersOnlyByCase() throws Exception {
+			createNormalUserForTest();
+
+			AuthenticationRequest request = new AuthenticationRequest("UserTest@Gmail.COM", "@SenhaSegura123");
+
+			mockMvc.perform(post("/auth/login")
+					.contentType(MediaType.APPLICATION_JSON)
+					.content(objectMapper.writeValueAsString(request)))
+					.andDo(print())
+					.andExpect(status().isOk())
+					.andExpect(jsonPath("$.token").exists());
+		}
+
 		@Test
 		void shouldReturnStatus400WhenLoginWithEmptyEmail() throws Exception {
 			AuthenticationRequest authenticationRequest = new AuthenticationRequest(
@@ -381,6 +502,27 @@ public class AuthControllerIT extends BaseIntegrationTests {
 					.andExpect(jsonPath("$.message").value("Invalid credentials"))
 					.andExpect(jsonPath("$.path").value("/auth/login"));
 		}
+
+		@Test
+		void shouldRecordLoginStageTimersWithOutcomeAndReason() throws Exception {
+			createNormalUserForTest();
+
+			mockMvc.perform(post("/auth/login")
+					.contentType(MediaType.APPLICATION_JSON)
+					.content(objectMapper.writeValueAsString(new AuthenticationRequest("usertest@gmail.com", "@SenhaSegura123"))))
+					.andExpect(status().isOk());
+
+			mockMvc.perform(post("/auth/login")
+					.contentType(MediaType.APPLICATION_JSON)
+					.content(objectMapper.writeValueAsString(new AuthenticationRequest("usertest@gmail.com", "@SenhaSegura12345678"))))
+					.andExpect(status().isUnauthorized());
+
+			assertTrue(meterRegistry.get(AuthMetrics.LOGIN).tags("outcome", "success").timer().count() >= 1);
+			assertTrue(meterRegistry.get(AuthMetrics.LOGIN).tags("outcome", "failure", "reason", "bad_credentials").timer().count() >= 1);
+			assertTrue(meterRegistry.get(AuthMetrics.LOGIN_STAGE).tags("stage", "user_lookup").timer().count() >= 2);
+			assertTrue(meterRegistry.get(AuthMetrics.LOGIN_STAGE).tags("stage", "token_sign").timer().count() >= 1);
+			assertTrue(meterRegistry.get(AuthMetrics.PASSWORD_HASH).tags("operation", "matches", "reason", "mismatch").timer().count() >= 1);
+		}
 	}
 
 	@Nested
@@ -435,6 +577,23 @@ public class AuthControllerIT extends BaseIntegrationTests {
 					"Token expiryDate should be in the future");
 		}
 
+		@Test
+		void shouldReplaceExistingTokenWhenPasswordResetIsRequestedAgain() throws Exception {
+			String firstToken = createValidPasswordResetToken();
+
+			ForgotPasswordRequestDTO dto = new ForgotPasswordRequestDTO("usertest@gmail.com");
+
+			mockMvc.perform(post("/auth/forgot-password")
+					.contentType(MediaType.APPLICATION_JSON)
+					.content(objectMapper.writeValueAsString(dto)))
+					.andDo(print())
+					.andExpect(status().isNoContent());
+
+			assertEquals(1, passwordResetTokenRepository.count());
+			assertTrue(passwordResetTokenRepository.findByToken(firstToken).isEmpty(),
+					"Previous token should have been replaced");
+		}
+
 		@Test
 		void shouldReturnStatus204WhenEmailNotRegisteredInAvailableField() throws Exception {
 			createNormalUserForTest();
@@ -501,6 +660,67 @@ public class AuthControllerIT extends BaseIntegrationTests {
 
 		}
 
+		@Test
+		void shouldResetPasswordWithOneReadOneUpdateAndOneDelete() throws Exception {
+			String token = createValidPasswordResetToken();
+
+			ResetPasswordRequestDTO requestDTO = new ResetPasswordRequestDTO(token, "NewPassword@123");
+			String requestBody = objectMapper.writeValueAsString(requestDTO);
+
+			Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+			statistics.clear();
+			statistics.setStatisticsEnabled(true);
+			try {
+				mockMvc.perform(post("/auth/reset-password")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(requestBody))
+						.andExpect(status().isNoContent());
+
+				assertEquals(3, statistics.getPrepareStatementCount());
+			} finally {
+				statistics.setStatisticsEnabled(false);
+			}
+		}
+
+		@Test
+		void shouldRedeemTokenExactlyOnceWhenResetConcurrently() throws Exception {
+			String token = createValidPasswordResetToken();
+
+			int concurrentRequests = 8;
+			ExecutorService executor = Executors.newFixedThreadPool(concurrentRequests);
+			CountDownLatch startSignal = new CountDownLatch(1);
+			List<Future<Integer>> statuses = new ArrayList<>();
+
+			try {
+				for (int i = 0; i < concurrentRequests; i++) {
+					String requestBody = objectMapper.writeValueAsString(
+							new ResetPasswordRequestDTO(token, "NewPassword@12" + i));
+					statuses.add(executor.submit(() -> {
+						startSignal.await();
+						return mockMvc.perform(post("/auth/reset-password")
+								.contentType(MediaType.APPLICATION_JSON)
+								.content(requestBody))
+								.andReturn()
+								.getResponse()
+								.getStatus();
+					}));
+				}
+				startSignal.countDown();
+
+				int redeemed = 0;
+				for (Future<Integer> status : statuses) {
+					if (status.get() == 204) {
+						redeemed++;
+					}
+				}
+
+				assertEquals(1, redeemed);
+				assertTrue(passwordResetTokenRepository.findByToken(token).isEmpty());
+			} finally {
+				executor.shutdownNow();
+			}
+		}
+
 		@Test
 		void mustReturnStatus400WhenPerformingPasswordChangeWithTokenNull() throws Exception {
 			String token = null;
@@ -21,10 +21,13 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import br.com.confidence.job.user.DeletedUserReaperJob;
 import br.com.confidence.model.auth.PasswordResetToken;
 import br.com.confidence.model.role.Role;
 import br.com.confidence.model.user.User;
 import br.com.confidence.repository.auth.PasswordResetTokenRepository;
+import br.com.confidence.repository.permission.PermissionRepository;
+import br.com.confidence.repository.role.RoleDeletionJobRepository;
 import br.com.confidence.repository.role.RoleRepository;
 import br.com.confidence.repository.user.UserRepository;
 
@@ -49,14 +52,26 @@ public abstract class BaseIntegrationTests {
     @Autowired
     protected PasswordResetTokenRepository passwordResetTokenRepository;
 
+    @Autowired
+    protected PermissionRepository permissionRepository;
+
+    @Autowired
+    protected RoleDeletionJobRepository roleDeletionJobRepository;
+
+    @Autowired
+    protected DeletedUserReaperJob deletedUserReaperJob;
+
     @Autowired
     protected PasswordEncoder passwordEncoder;
 
     @AfterEach
     void tearDown() {
         passwordResetTokenRepository.deleteAll();
+        roleDeletionJobRepository.deleteAll();
+        deletedUserReaperJob.hardDeleteSoftDeletedUsers();
         userRepository.deleteAll();
         roleRepository.deleteAll();
+        permissionRepository.deleteAll();
     }
 
     protected Role createAdminRoleForTest() {
@@ -0,0 +1,108 @@
+package br.com.confidence.controller;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+
+import br.com.confidence.dto.permission.PermissionRequest;
+import br.com.confidence.model.permission.Permission;
+import br.com.confidence.model.role.Role;
+import br.com.confidence.security.AccessClosureRegistry;
+
+public class PermissionControllerIT extends BaseIntegrationTests {
+
+    @Autowired
+    private AccessClosureRegistry accessClosures;
+
+    private Role adminRole;
+
+    @BeforeEach
+    void setUp() {
+        adminRole = createAdminRoleForTest();
+        adminRole.getPermissions().add(permissionNamed("permissions:read"));
+        adminRole.getPermissions().add(permissionNamed("permissions:write"));
+        adminRole.getPermissions().add(permissionNamed("roles:grant"));
+        adminRole = roleRepository.save(adminRole);
+        accessClosures.invalidate();
+    }
+
+    private Permission permissionNamed(String name) {
+        return permissionRepository.findByName(name).orElseGet(() -> {
+            Permission permission = new Permission();
+            permission.setName(name);
+            return permissionRepository.save(permission);
+        });
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void shouldReturnStatus201WhenCreatingPermissionWithGrantedPermission() throws Exception {
+
+        String requestBodyJson = objectMapper.writeValueAsString(new PermissionRequest("reports:read", "Read reports"));
+
+        mockMvc.perform(post("/permissions")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestBodyJson))
+                .andDo(print())
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").exists())
+                .andExpect(jsonPath("$.name").value("reports:read"));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void shouldReturnStatus409WhenCreatingPermissionWithExistingName() throws Exception {
+
+        String requestBodyJson = objectMapper.writeValueAsString(new PermissionRequest("permissions:read", null));
+
+        mockMvc.perform(post("/permissions")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestBodyJson))
+                .andDo(print())
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void shouldExposeInheritedPermissionsThroughRoleHierarchy() throws Exception {
+        Role userRole = createUserRoleForTest();
+        Permission profileRead = permissionNamed("profile:read");
+
+        mockMvc.perform(put("/roles/" + userRole.getId() + "/permissions/" + profileRead.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.effectivePermissions[0]").value("profile:read"));
+
+        mockMvc.perform(put("/roles/" + adminRole.getId() + "/includes/" + userRole.getId()))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.effectiveRoles[?(@ == 'USER')]").exists())
+                .andExpect(jsonPath("$.effectivePermissions[?(@ == 'profile:read')]").exists());
+
+        mockMvc.perform(get("/roles/" + adminRole.getId() + "/access"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.effectivePermissions[?(@ == 'profile:read')]").exists());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void shouldReturnStatus409WhenRoleInheritanceWouldCreateCycle() throws Exception {
+        Role userRole = createUserRoleForTest();
+
+        mockMvc.perform(put("/roles/" + adminRole.getId() + "/includes/" + userRole.getId()))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(put("/roles/" + userRole.getId() + "/includes/" + adminRole.getId()))
+                .andDo(print())
+                .andExpect(status().isConflict());
+    }
+
+}
@@ -8,23 +8,35 @@ import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.List;
+
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
 
+import br.com.confidence.dto.role.RoleAssignmentRequest;
 import br.com.confidence.dto.role.RoleRequest;
 import br.com.confidence.dto.role.RoleUpdateRequest;
+import br.com.confidence.job.role.RoleDeletionJobWorker;
 import br.com.confidence.model.role.Role;
+import br.com.confidence.model.user.User;
 
 @SpringBootTest
 @ActiveProfiles("test")
 @AutoConfigureMockMvc
 public class RoleControllerIT extends BaseIntegrationTests {
 
+    @Autowired
+    private RoleDeletionJobWorker roleDeletionJobWorker;
+
     @Nested
     class createRoleTest {
 
@@ -510,4 +522,149 @@ public class RoleControllerIT extends BaseIntegrationTests {
                     .andExpect(status().isForbidden());
         }
     }
+
+    @Nested
+    class roleAssignmentTest {
+
+        @Test
+        @WithMockUser(roles = "ADMIN")
+        void shouldAssignRoleOnlyOnceAndInvalidateTokensOfAffectedUsers() throws Exception {
+            User user = createNormalUserForTest();
+            Role adminRole = createAdminRoleForTest();
+
+            String requestBodyJson = objectMapper.writeValueAsString(
+                    new RoleAssignmentRequest(List.of(user.getId(), user.getId(), 999999L)));
+
+            mockMvc.perform(post("/roles/" + adminRole.getId() + "/assignments")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(requestBodyJson))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.requested").value(2))
+                    .andExpect(jsonPath("$.changed").value(1));
+
+            mockMvc.perform(put("/roles/" + adminRole.getId() + "/users/" + user.getId()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.changed").value(0));
+
+            assertEquals(1, userRepository.findById(user.getId()).orElseThrow().getTokenVersion());
+        }
+
+        @Test
+        @WithMockUser(roles = "ADMIN")
+        void shouldRevokeRoleAndInvalidateTokensOfAffectedUsers() throws Exception {
+            User user = createNormalUserForTest();
+            long userRoleId = roleRepository.findByName("USER").get(0).getId();
+
+            mockMvc.perform(delete("/roles/" + userRoleId + "/users/" + user.getId()))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.changed").value(1));
+
+            String requestBodyJson = objectMapper.writeValueAsString(new RoleAssignmentRequest(List.of(user.getId())));
+
+            mockMvc.perform(post("/roles/" + userRoleId + "/revocations")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(requestBodyJson))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.changed").value(0));
+
+            assertEquals(1, userRepository.findById(user.getId()).orElseThrow().getTokenVersion());
+        }
+
+        @Test
+        @WithMockUser(roles = "ADMIN")
+        void shouldReturnStatus404WhenAssigningNonExistentRole() throws Exception {
+            User user = createNormalUserForTest();
+
+            mockMvc.perform(put("/roles/999999/users/" + user.getId()))
+                    .andDo(print())
+                    .andExpect(status().isNotFound());
+        }
+
+        @Test
+        @WithMockUser(roles = "ADMIN")
+        void shouldReturnStatus400WhenAssigningWithEmptyUserIds() throws Exception {
+            Role adminRole = createAdminRoleForTest();
+
+            String requestBodyJson = objectMapper.writeValueAsString(new RoleAssignmentRequest(List.of()));
+
+            mockMvc.perform(post("/roles/" + adminRole.getId() + "/assignments")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(requestBodyJson))
+                    .andDo(print())
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Nested
+    class roleDeletionJobTest {
+
+        @Test
+        @WithMockUser(roles = "ADMIN")
+        void shouldReturnStatus409WhenDeletingRoleAssignedToUsersWithoutCascade() throws Exception {
+            User user = createNormalUserForTest();
+            long userRoleId = user.getRoles().get(0).getId();
+
+            mockMvc.perform(delete("/roles/{id}", userRoleId))
+                    .andDo(print())
+                    .andExpect(status().isConflict());
+        }
+
+        @Test
+        @WithMockUser(roles = "ADMIN")
+        void shouldUnlinkUsersInBackgroundAndDeleteRoleWithReplacement() throws Exception {
+            User user = createNormalUserForTest();
+            long userRoleId = user.getRoles().get(0).getId();
+            Role replacement = createAdminRoleForTest();
+
+            String response = mockMvc.perform(delete("/roles/{id}", userRoleId)
+                    .param("cascade", "true")
+                    .param("replacementRoleId", String.valueOf(replacement.getId())))
+                    .andDo(print())
+                    .andExpect(status().isAccepted())
+                    .andExpect(jsonPath("$.status").value("PENDING"))
+                    .andExpect(jsonPath("$.totalUsers").value(1))
+                    .andReturn().getResponse().getContentAsString();
+            long jobId = objectMapper.readTree(response).get("id").asLong();
+
+            roleDeletionJobWorker.runPendingJobs();
+
+            mockMvc.perform(get("/roles/deletions/{jobId}", jobId))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.status").value("COMPLETED"))
+                    .andExpect(jsonPath("$.processedUsers").value(1));
+
+            assertFalse(roleRepository.existsById(userRoleId));
+            assertEquals(1, roleRepository.countUsersWithRole(replacement.getId()));
+            assertEquals(1, userRepository.findById(user.getId()).orElseThrow().getTokenVersion());
+        }
+    
+
+        @Test
+        @WithMockUser(roles = "ADMIN")
+        void shouldReuseActiveJobOnlyWhenReplacementRoleMatches() throws Exception {
+            User user = createNormalUserForTest();
+            long userRoleId = user.getRoles().get(0).getId();
+            Role replacement = createAdminRoleForTest();
+
+            String response = mockMvc.perform(delete("/roles/{id}", userRoleId)
+                    .param("cascade", "true")
+                    .param("replacementRoleId", String.valueOf(replacement.getId())))
+                    .andExpect(status().isAccepted())
+                    .andReturn().getResponse().getContentAsString();
+            long jobId = objectMapper.readTree(response).get("id").asLong();
+
+            mockMvc.perform(delete("/roles/{id}", userRoleId)
+                    .param("cascade", "true")
+                    .param("replacementRoleId", String.valueOf(replacement.getId())))
+                    .andExpect(status().isAccepted())
+                    .andExpect(jsonPath("$.id").value(jobId));
+
+            mockMvc.perform(delete("/roles/{id}", userRoleId)
+                    .param("cascade", "true"))
+                    .andDo(print())
+                    .andExpect(status().isConflict());
+        }
+    }
 }
@@ -9,27 +9,52 @@ import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+
+import java.util.List;
+
 import static org.hamcrest.Matchers.hasSize;
 
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import br.com.confidence.dto.authentication.AuthenticationRequest;
 import br.com.confidence.dto.user.UserEmailUpdateRequest;
 import br.com.confidence.dto.user.UserPasswordUpdateRequest;
 import br.com.confidence.dto.user.UserRequest;
 import br.com.confidence.dto.user.UserUpdateRequest;
 import br.com.confidence.model.user.User;
+import br.com.confidence.service.role.RoleAssignmentService;
+import br.com.confidence.updater.user.UserUpdater;
 
 @SpringBootTest
 @ActiveProfiles("test")
 @AutoConfigureMockMvc
 public class UserControllerIT extends BaseIntegrationTests {
 
+    @MockitoSpyBean
+    private UserUpdater userUpdater;
+
+    @Autowired
+    private RoleAssignmentService roleAssignmentService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
     @Nested
     class createUserTest {
 
@@ -283,6 +308,30 @@ public class UserControllerIT extends BaseIntegrationTests {
     @Nested
     class updateUserTest {
 
+        @Test
+        @WithMockUser(roles = "ADMIN")
+        void shouldKeepTokenVersionBumpedConcurrentlyWithProfileUpdate() throws Exception {
+            User user = createNormalUserForTest();
+            long userID = user.getId();
+            long adminRoleId = createAdminRoleForTest().getId();
+
+            TransactionTemplate concurrentTransaction = new TransactionTemplate(transactionManager);
+            concurrentTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+            doAnswer(invocation -> {
+                concurrentTransaction.executeWithoutResult(status -> roleAssignmentService.assignAll(adminRoleId, List.of(userID)));
+                return invocation.callRealMethod();
+            }).when(userUpdater).updateUsername(any(User.class), anyString());
+
+            mockMvc.perform(put("/users/{id}", userID)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(new UserUpdateRequest("Renamed"))))
+                    .andExpect(status().isOk());
+
+            User updated = userRepository.findById(userID).orElseThrow();
+            assertEquals("Renamed", updated.getName());
+            assertEquals(1, updated.getTokenVersion());
+        }
+
         @Test
         @WithMockUser(roles = "ADMIN")
         void shouldReturnStatus200WhenUpdatingUserSuccessfully() throws Exception {
@@ -777,6 +826,30 @@ public class UserControllerIT extends BaseIntegrationTests {
                     .andExpect(status().isNoContent());
         }
 
+        @Test
+        @WithMockUser(roles = "ADMIN")
+        void shouldHideSoftDeletedUserImmediatelyAndHardDeleteItInBackground() throws Exception {
+            User user = createNormalUserForTest();
+            long userID = user.getId();
+
+            mockMvc.perform(delete("/users/{id}", userID))
+                    .andExpect(status().isNoContent());
+
+            mockMvc.perform(get("/users/by-email").param("email", "usertest@gmail.com"))
+                    .andDo(print())
+                    .andExpect(status().isNotFound());
+
+            mockMvc.perform(post("/auth/login")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(
+                            new AuthenticationRequest("usertest@gmail.com", "@SenhaSegura123"))))
+                    .andExpect(status().isUnauthorized());
+
+            assertEquals(List.of(userID), userRepository.findSoftDeletedUserIds(10));
+            assertEquals(1, deletedUserReaperJob.hardDeleteSoftDeletedUsers());
+            assertTrue(userRepository.findSoftDeletedUserIds(10).isEmpty());
+        }
+
         @Test
         void shouldReturnStatus401WhenTryingToDeleteUserWithUserWithoutAuthentication() throws Exception {
             User user = createAdminUserForTest();
@@ -956,7 +1029,8 @@ public class UserControllerIT extends BaseIntegrationTests {
         @Test
         @WithMockUser(roles = "ADMIN")
         void shouldReturnStatus200WhenListingAllUsers() throws Exception {
-            createAdminRoleForTest();
+            createAdminUserForTest();
+            createNormalUserForTest();
 
             mockMvc.perform(get("/users")
                     .contentType(MediaType.APPLICATION_JSON))
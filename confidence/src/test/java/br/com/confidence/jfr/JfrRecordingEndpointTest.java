@@ -0,0 +1,66 @@
+package br.com.confidence.jfr;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import br.com.confidence.jfr.auth.AuthEvents;
+import br.com.confidence.jfr.auth.LoginEvent;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+public class JfrRecordingEndpointTest {
+
+    @TempDir
+    Path dumpDir;
+
+    private JfrRecordingEndpoint endpoint;
+
+    @BeforeEach
+    void setUp() {
+        endpoint = new JfrRecordingEndpoint();
+        ReflectionTestUtils.setField(endpoint, "baseSettings", "default");
+        ReflectionTestUtils.setField(endpoint, "maxAge", Duration.ofMinutes(5));
+        ReflectionTestUtils.setField(endpoint, "maxSize", DataSize.ofMegabytes(10));
+        ReflectionTestUtils.setField(endpoint, "dumpDir", dumpDir);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        endpoint.control("stop");
+    }
+
+    @Test
+    void shouldDumpRecordingWithAuthEventsAndOutcomes() throws Exception {
+        assertEquals("RUNNING", endpoint.control("start").get("state"));
+
+        AuthEvents.record(new LoginEvent(), () -> "token");
+        assertThrows(IllegalStateException.class,
+                () -> AuthEvents.record(new LoginEvent(), () -> { throw new IllegalStateException("boom"); }));
+
+        Map<String, Object> status = endpoint.control("dump");
+        List<RecordedEvent> logins = RecordingFile.readAllEvents(Path.of((String) status.get("file"))).stream()
+                .filter(event -> event.getEventType().getName().equals("br.com.confidence.auth.Login"))
+                .toList();
+
+        assertEquals(2, logins.size());
+        assertEquals(1, logins.stream().filter(event -> "success".equals(event.getString("outcome"))).count());
+        assertEquals(1, logins.stream().filter(event -> "IllegalStateException".equals(event.getString("reason"))).count());
+    }
+
+    @Test
+    void shouldRejectDumpWhenNoRecordingIsRunning() {
+        assertThrows(IllegalStateException.class, () -> endpoint.control("dump"));
+    }
+}
@@ -0,0 +1,52 @@
+package br.com.confidence.job;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import br.com.confidence.controller.BaseIntegrationTests;
+import br.com.confidence.job.auth.PasswordResetTokenPurgeJob;
+import br.com.confidence.model.auth.PasswordResetToken;
+import br.com.confidence.model.user.User;
+
+public class PasswordResetTokenPurgeJobIT extends BaseIntegrationTests {
+
+    @Autowired
+    private PasswordResetTokenPurgeJob purgeJob;
+
+    @Test
+    void shouldDeleteOnlyExpiredTokens() {
+        String validToken = createValidPasswordResetToken();
+        createTokenForNewUser("expired.one@gmail.com", LocalDateTime.now().minusHours(2));
+        createTokenForNewUser("expired.two@gmail.com", LocalDateTime.now().minusMinutes(1));
+
+        int purged = purgeJob.deleteExpiredTokens();
+
+        assertEquals(2, purged);
+        List<PasswordResetToken> remaining = passwordResetTokenRepository.findAll();
+        assertEquals(1, remaining.size());
+        assertTrue(passwordResetTokenRepository.findByToken(validToken).isPresent());
+    }
+
+    private void createTokenForNewUser(String email, LocalDateTime expiryDate) {
+        User user = new User();
+        user.setName("Expired");
+        user.setEmail(email);
+        user.setPassword(passwordEncoder.encode("@SenhaSegura123"));
+        user.setRoles(List.of());
+        userRepository.save(user);
+
+        PasswordResetToken token = new PasswordResetToken();
+        token.setToken(UUID.randomUUID().toString());
+        token.setUser(user);
+        token.setExpiryDate(expiryDate);
+        passwordResetTokenRepository.save(token);
+    }
+
+}
@@ -0,0 +1,83 @@
+package br.com.confidence.migration;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.UUID;
+
+import org.flywaydb.core.Flyway;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import br.com.confidence.migration.SchemaFingerprint.Snapshot;
+import br.com.confidence.migration.SchemaStartupStrategy.Mode;
+
+public class SchemaStartupStrategyTest {
+
+    private Flyway flyway;
+    private JdbcTemplate jdbcTemplate;
+    private SchemaFingerprint fingerprint;
+
+    @BeforeEach
+    void setUp() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUser("sa");
+
+        flyway = Flyway.configure().dataSource(dataSource).load();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        fingerprint = new SchemaFingerprint(jdbcTemplate);
+    }
+
+    @Test
+    void shouldRecordFingerprintOfShippedScriptsWhenRunningAsMigrator() {
+        strategy(Mode.MIGRATOR).migrate(flyway);
+
+        Snapshot shipped = fingerprint.compute(flyway.getConfiguration().getLocations());
+        assertEquals(shipped, fingerprint.stored().orElseThrow());
+        assertTrue(shipped.scriptCount() > 0);
+    }
+
+    @Test
+    void shouldStartWithoutMigratingWhenFingerprintMatches() {
+        strategy(Mode.MIGRATOR).migrate(flyway);
+        Integer applied = countAppliedMigrations();
+
+        assertDoesNotThrow(() -> strategy(Mode.VERIFY).migrate(flyway));
+        assertEquals(applied, countAppliedMigrations());
+    }
+
+    @Test
+    void shouldRefuseToStartWhenFingerprintDiffers() {
+        strategy(Mode.MIGRATOR).migrate(flyway);
+        fingerprint.store(new Snapshot("stale", 1));
+
+        IllegalStateException ex = assertThrows(IllegalStateException.class,
+                () -> strategy(Mode.VERIFY).migrate(flyway));
+        assertTrue(ex.getMessage().startsWith("Schema fingerprint mismatch"));
+    }
+
+    @Test
+    void shouldRefuseToStartWhenNoFingerprintRecorded() {
+        strategy(Mode.MIGRATOR).migrate(flyway);
+        jdbcTemplate.update("DELETE FROM schema_fingerprint");
+
+        IllegalStateException ex = assertThrows(IllegalStateException.class,
+                () -> strategy(Mode.VERIFY).migrate(flyway));
+        assertTrue(ex.getMessage().startsWith("No schema fingerprint recorded"));
+    }
+
+    private SchemaStartupStrategy strategy(Mode mode) {
+        return new SchemaStartupStrategy(ApplicationStartup.DEFAULT, mode);
+    }
+
+    private Integer countAppliedMigrations() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM \"flyway_schema_history\"", Integer.class);
+    }
+
+}
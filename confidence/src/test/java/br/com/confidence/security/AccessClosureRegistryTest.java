@@ -0,0 +1,71 @@
+package br.com.confidence.security;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import br.com.confidence.repository.role.RoleRepository;
+
+public class AccessClosureRegistryTest {
+
+    private final RoleRepository roleRepository = mock(RoleRepository.class);
+    private final AccessClosureRegistry registry = new AccessClosureRegistry(roleRepository, new RoleOrdinals(),
+            mock(PlatformTransactionManager.class));
+
+    @Test
+    void shouldRebuildOnceWhenConcurrentCallersFindClosureInvalidated() throws Exception {
+        int callers = 8;
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(roleRepository.findAllNames()).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return List.of("ADMIN", "USER");
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<AccessClosure>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(registry::current));
+            }
+            loading.await(5, TimeUnit.SECONDS);
+            release.countDown();
+
+            AccessClosure first = results.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<AccessClosure> result : results) {
+                assertSame(first, result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(roleRepository, times(1)).findAllNames();
+    }
+
+    @Test
+    void shouldRebuildAgainAfterInvalidation() {
+        when(roleRepository.findAllNames()).thenReturn(List.of("USER"));
+
+        AccessClosure first = registry.current();
+        assertSame(first, registry.current());
+
+        registry.invalidate();
+        registry.current();
+
+        verify(roleRepository, times(2)).findAllNames();
+    }
+
+}
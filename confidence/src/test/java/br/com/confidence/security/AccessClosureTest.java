@@ -0,0 +1,62 @@
+package br.com.confidence.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class AccessClosureTest {
+
+    private final RoleOrdinals roleOrdinals = new RoleOrdinals();
+
+    private final AccessClosure closure = AccessClosure.compute(roleOrdinals,
+            List.of("ADMIN", "SUPPORT", "USER", "GUEST"),
+            Map.of("ADMIN", Set.of("SUPPORT"), "SUPPORT", Set.of("USER")),
+            Map.of("ADMIN", Set.of("permissions:write"),
+                    "SUPPORT", Set.of("users:read"),
+                    "USER", Set.of("profile:read")));
+
+    @Test
+    void shouldInheritRolesAndPermissionsTransitively() {
+        AccessGrant admin = closure.grantFor(roleOrdinals.maskOf("ADMIN"));
+
+        assertTrue(admin.roles().contains(roleOrdinals.ordinal("USER")));
+        assertTrue(admin.hasPermission("permissions:write"));
+        assertTrue(admin.hasPermission("users:read"));
+        assertTrue(admin.hasPermission("profile:read"));
+        assertEquals(List.of("ADMIN", "SUPPORT", "USER"), closure.effectiveRoles(roleOrdinals, "ADMIN"));
+    }
+
+    @Test
+    void shouldNotGrantPermissionsOfParentRoles() {
+        AccessGrant user = closure.grantFor(roleOrdinals.maskOf("USER"));
+
+        assertTrue(user.hasPermission("profile:read"));
+        assertFalse(user.hasPermission("users:read"));
+        assertFalse(user.hasPermission("unknown:permission"));
+        assertFalse(closure.grantFor(roleOrdinals.maskOf("GUEST")).hasPermission("profile:read"));
+    }
+
+    @Test
+    void shouldReuseGrantForSameRoleCombination() {
+        assertSame(closure.grantFor(roleOrdinals.maskOf("USER", "GUEST")),
+                closure.grantFor(roleOrdinals.maskOf("GUEST", "USER")));
+    }
+
+    @Test
+    void shouldTerminateOnCyclicInheritance() {
+        AccessClosure cyclic = AccessClosure.compute(roleOrdinals, List.of("A", "B"),
+                Map.of("A", Set.of("B"), "B", Set.of("A")),
+                Map.of("B", Set.of("b:read")));
+
+        assertTrue(cyclic.grantFor(roleOrdinals.maskOf("A")).hasPermission("b:read"));
+        assertTrue(cyclic.includes(roleOrdinals, "B", "A"));
+    }
+
+}
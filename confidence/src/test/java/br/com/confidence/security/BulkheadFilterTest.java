@@ -0,0 +1,108 @@
+package br.com.confidence.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+public class BulkheadFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private BulkheadFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("app.bulkhead.public-auth.max-concurrent", "100")
+                .withProperty("app.bulkhead.authenticated.max-concurrent", "100")
+                .withProperty("app.bulkhead.admin.max-concurrent", "1")
+                .withProperty("app.bulkhead.infrastructure.max-concurrent", "10");
+        filter = new BulkheadFilter(environment, meterRegistry, new ObjectMapper().registerModule(new JavaTimeModule()));
+    }
+
+    @Test
+    void shouldShedAdminRequestsWithoutAffectingLoginWhenAdminGroupIsSaturated() throws Exception {
+        CountDownLatch adminStarted = new CountDownLatch(1);
+        CountDownLatch releaseAdmin = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<MockHttpServletResponse> blocked = executor.submit(() -> perform("/users", new MockFilterChain(new HttpServlet() {
+
+                @Override
+                protected void service(HttpServletRequest req, HttpServletResponse res) {
+                    assertEquals(EndpointGroup.ADMIN, EndpointGroupContext.current());
+                    adminStarted.countDown();
+                    try {
+                        releaseAdmin.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            })));
+            adminStarted.await(5, TimeUnit.SECONDS);
+
+            MockHttpServletResponse shed = perform("/roles", new MockFilterChain());
+            MockHttpServletResponse login = perform("/auth/login", new MockFilterChain());
+
+            assertEquals(503, shed.getStatus());
+            assertEquals("1", shed.getHeader("Retry-After"));
+            assertEquals(1.0, meterRegistry.get("http.bulkhead.rejected").tag("group", "admin").counter().count());
+            assertEquals(1.0, meterRegistry.get("http.bulkhead.saturation").tag("group", "admin").gauge().value());
+            assertEquals(200, login.getStatus());
+
+            releaseAdmin.countDown();
+            assertEquals(200, blocked.get(5, TimeUnit.SECONDS).getStatus());
+            assertEquals(0.0, meterRegistry.get("http.bulkhead.active").tag("group", "admin").gauge().value());
+        } finally {
+            releaseAdmin.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldFailFastWhenGroupLimitIsNotConfigured() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("app.bulkhead.admin.max-concurrent", "1");
+
+        assertThrows(IllegalStateException.class,
+                () -> new BulkheadFilter(environment, new SimpleMeterRegistry(), new ObjectMapper()));
+    }
+
+    @Test
+    void shouldResolveGroupsFromSecurityMatchers() {
+        assertEquals(EndpointGroup.PUBLIC_AUTH, EndpointGroup.resolve("/auth/login"));
+        assertEquals(EndpointGroup.AUTHENTICATED, EndpointGroup.resolve("/auth/me"));
+        assertEquals(EndpointGroup.ADMIN, EndpointGroup.resolve("/users/by-email"));
+        assertEquals(EndpointGroup.INFRASTRUCTURE, EndpointGroup.resolve("/actuator/health"));
+        assertEquals(EndpointGroup.INFRASTRUCTURE, EndpointGroup.resolve("/actuator/health/readiness"));
+        assertEquals(EndpointGroup.ADMIN, EndpointGroup.resolve("/actuator/prometheus"));
+    }
+
+    private MockHttpServletResponse perform(String path, MockFilterChain chain) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+}
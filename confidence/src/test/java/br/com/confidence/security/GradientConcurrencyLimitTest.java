@@ -0,0 +1,76 @@
+package br.com.confidence.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+public class GradientConcurrencyLimitTest {
+
+    private static final long BASELINE_RTT = TimeUnit.MILLISECONDS.toNanos(50);
+
+    @Test
+    void shouldRejectRequestsBeyondCurrentLimit() {
+        GradientConcurrencyLimit limit = new GradientConcurrencyLimit(2, 1, 10, 0.2, 1.5, 100);
+
+        assertTrue(limit.tryAcquire());
+        assertTrue(limit.tryAcquire());
+        assertFalse(limit.tryAcquire());
+        assertEquals(2, limit.getInFlight());
+    }
+
+    @Test
+    void shouldGrowLimitWhileLatencyStaysFlatUnderLoad() {
+        GradientConcurrencyLimit limit = new GradientConcurrencyLimit(4, 1, 64, 0.2, 1.5, 100);
+
+        for (int i = 0; i < 50; i++) {
+            limit.tryAcquire();
+            limit.release(BASELINE_RTT, limit.getLimit(), false);
+        }
+
+        assertTrue(limit.getLimit() > 4);
+    }
+
+    @Test
+    void shouldShrinkLimitWhenLatencyClimbsAboveBaseline() {
+        GradientConcurrencyLimit limit = new GradientConcurrencyLimit(32, 1, 64, 0.2, 1.5, 100);
+
+        for (int i = 0; i < 100; i++) {
+            limit.tryAcquire();
+            limit.release(BASELINE_RTT, 1, false);
+        }
+        int beforeQueueing = limit.getLimit();
+
+        for (int i = 0; i < 20; i++) {
+            limit.tryAcquire();
+            limit.release(BASELINE_RTT * 4, limit.getLimit(), false);
+        }
+
+        assertTrue(limit.getLimit() < beforeQueueing / 2);
+    }
+
+    @Test
+    void shouldIgnoreLatencyWhenUnderUtilized() {
+        GradientConcurrencyLimit limit = new GradientConcurrencyLimit(16, 1, 64, 0.2, 1.5, 100);
+
+        limit.tryAcquire();
+        limit.release(BASELINE_RTT, 1, false);
+        limit.tryAcquire();
+        limit.release(BASELINE_RTT * 10, 1, false);
+
+        assertEquals(16, limit.getLimit());
+    }
+
+    @Test
+    void shouldBackOffWhenRequestFailsWithServerError() {
+        GradientConcurrencyLimit limit = new GradientConcurrencyLimit(10, 1, 64, 0.2, 1.5, 100);
+
+        limit.tryAcquire();
+        limit.release(BASELINE_RTT, 10, true);
+
+        assertEquals(9, limit.getLimit());
+    }
+}
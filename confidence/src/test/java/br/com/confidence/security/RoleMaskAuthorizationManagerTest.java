@@ -0,0 +1,56 @@
+package br.com.confidence.security;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+public class RoleMaskAuthorizationManagerTest {
+
+    private final RoleOrdinals roleOrdinals = new RoleOrdinals();
+    private final RoleMaskAuthorizationManager adminRule = RoleMaskAuthorizationManager.hasAnyRole(roleOrdinals, "ADMIN");
+    private final RoleMaskAuthorizationManager userRule = RoleMaskAuthorizationManager.hasAnyRole(roleOrdinals, "USER", "ADMIN");
+
+    @Test
+    void shouldGrantWhenPrincipalMaskIntersectsRequiredRoles() {
+        var user = new RoleMaskAuthenticationToken("user", List.of(), roleOrdinals.maskOf("USER"));
+
+        assertTrue(userRule.isGranted(user));
+        assertFalse(adminRule.isGranted(user));
+    }
+
+    @Test
+    void shouldHandleOrdinalsBeyondFirstWord() {
+        for (int i = 0; i < 70; i++) {
+            roleOrdinals.ordinal("ROLE_" + i);
+        }
+        var auditor = new RoleMaskAuthenticationToken("auditor", List.of(), roleOrdinals.maskOf("AUDITOR"));
+        var rule = RoleMaskAuthorizationManager.hasAnyRole(roleOrdinals, "USER", "AUDITOR");
+
+        assertTrue(rule.isGranted(auditor));
+        assertFalse(adminRule.isGranted(auditor));
+    }
+
+    @Test
+    void shouldFallBackToAuthoritiesForOtherAuthentications() {
+        var admin = UsernamePasswordAuthenticationToken.authenticated("admin", null,
+                AuthorityUtils.createAuthorityList("ROLE_ADMIN"));
+
+        assertTrue(adminRule.isGranted(admin));
+    }
+
+    @Test
+    void shouldDenyAnonymousAndMissingAuthentication() {
+        var anonymous = new AnonymousAuthenticationToken("key", "anonymous",
+                AuthorityUtils.createAuthorityList("ROLE_ANONYMOUS"));
+
+        assertFalse(userRule.isGranted(anonymous));
+        assertFalse(userRule.isGranted(null));
+    }
+
+}
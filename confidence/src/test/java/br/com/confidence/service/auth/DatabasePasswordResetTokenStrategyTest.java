@@ -0,0 +1,95 @@
+package br.com.confidence.service.auth;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import br.com.confidence.exception.user.InvalidUserPasswordException;
+import br.com.confidence.model.auth.PasswordResetToken;
+import br.com.confidence.model.user.User;
+import br.com.confidence.repository.auth.PasswordResetTokenRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class DatabasePasswordResetTokenStrategyTest {
+
+    @Mock
+    private PasswordResetTokenRepository tokenRepository;
+
+    private DatabasePasswordResetTokenStrategy strategy;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        strategy = new DatabasePasswordResetTokenStrategy(tokenRepository);
+
+        user = new User();
+        user.setId(7L);
+    }
+
+    @Test
+    void shouldReplaceExistingTokenInPlace() {
+        when(tokenRepository.replaceTokenForUser(eq(7L), anyString(), any(LocalDateTime.class))).thenReturn(1);
+
+        String token = strategy.issueToken(user);
+
+        verify(tokenRepository).replaceTokenForUser(eq(7L), eq(token), any(LocalDateTime.class));
+        verify(tokenRepository, never()).saveAndFlush(any(PasswordResetToken.class));
+    }
+
+    @Test
+    void shouldInsertTokenWhenUserHasNone() {
+        when(tokenRepository.replaceTokenForUser(eq(7L), anyString(), any(LocalDateTime.class))).thenReturn(0);
+
+        String token = strategy.issueToken(user);
+
+        verify(tokenRepository).saveAndFlush(any(PasswordResetToken.class));
+        verify(tokenRepository, times(1)).replaceTokenForUser(eq(7L), eq(token), any(LocalDateTime.class));
+    }
+
+    @Test
+    void shouldReplaceTokenWhenConcurrentRequestInsertedFirst() {
+        when(tokenRepository.replaceTokenForUser(eq(7L), anyString(), any(LocalDateTime.class))).thenReturn(0, 1);
+        when(tokenRepository.saveAndFlush(any(PasswordResetToken.class)))
+                .thenThrow(new DataIntegrityViolationException("ux_password_reset_tokens_user_id"));
+
+        String token = strategy.issueToken(user);
+
+        verify(tokenRepository, times(2)).replaceTokenForUser(eq(7L), eq(token), any(LocalDateTime.class));
+    }
+
+    @Test
+    void shouldRethrowWhenTokenCannotBeInsertedOrReplaced() {
+        DataIntegrityViolationException violation = new DataIntegrityViolationException("fk_user");
+        when(tokenRepository.replaceTokenForUser(eq(7L), anyString(), any(LocalDateTime.class))).thenReturn(0);
+        when(tokenRepository.saveAndFlush(any(PasswordResetToken.class))).thenThrow(violation);
+
+        assertSame(violation, assertThrows(DataIntegrityViolationException.class, () -> strategy.issueToken(user)));
+    }
+
+    @Test
+    void shouldRejectTokenAlreadyRedeemedByConcurrentRequest() {
+        PasswordResetToken token = new PasswordResetToken(1L, "token", user, LocalDateTime.now().plusHours(1));
+        when(tokenRepository.findByTokenWithUser("token")).thenReturn(Optional.of(token));
+        when(tokenRepository.deleteByToken("token")).thenReturn(0);
+
+        assertThrows(InvalidUserPasswordException.class, () -> strategy.consumeToken("token"));
+    }
+
+}
@@ -0,0 +1,74 @@
+package br.com.confidence.service.auth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import br.com.confidence.exception.user.InvalidUserPasswordException;
+import br.com.confidence.model.user.User;
+import br.com.confidence.repository.user.UserRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class StatelessPasswordResetTokenStrategyTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private StatelessPasswordResetTokenStrategy strategy;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        strategy = new StatelessPasswordResetTokenStrategy(userRepository, "test-secret");
+
+        user = new User();
+        user.setId(7L);
+        user.setName("User");
+        user.setEmail("user@email.com");
+        user.setPassword("$2a$10$currentPasswordHash");
+        user.setRoles(List.of());
+    }
+
+    @Test
+    void shouldReturnUserWhenTokenIsValid() {
+        String token = strategy.issueToken(user);
+        when(userRepository.findById(7L)).thenReturn(Optional.of(user));
+
+        User resolved = strategy.consumeToken(token);
+
+        assertEquals(user.getId(), resolved.getId());
+    }
+
+    @Test
+    void shouldRejectTokenAfterPasswordHasChanged() {
+        String token = strategy.issueToken(user);
+        user.setPassword("$2a$10$newPasswordHash");
+        when(userRepository.findById(7L)).thenReturn(Optional.of(user));
+
+        assertThrows(InvalidUserPasswordException.class, () -> strategy.consumeToken(token));
+    }
+
+    @Test
+    void shouldRejectTokenSignedWithAnotherSecret() {
+        String token = new StatelessPasswordResetTokenStrategy(userRepository, "other-secret").issueToken(user);
+        when(userRepository.findById(7L)).thenReturn(Optional.of(user));
+
+        assertThrows(InvalidUserPasswordException.class, () -> strategy.consumeToken(token));
+    }
+
+    @Test
+    void shouldRejectMalformedToken() {
+        assertThrows(InvalidUserPasswordException.class, () -> strategy.consumeToken("not-a-token"));
+    }
+
+}
@@ -30,6 +30,7 @@ import br.com.confidence.exception.role.RoleAlreadyExistsException;
 import br.com.confidence.exception.role.RoleNotFoundException;
 import br.com.confidence.model.role.Role;
 import br.com.confidence.repository.role.RoleRepository;
+import br.com.confidence.security.AccessClosureRegistry;
 import br.com.confidence.updater.role.RoleUpdater;
 import br.com.confidence.validation.role.RoleValidation;
 
@@ -45,11 +46,14 @@ public class RoleServiceImplTest {
     @Mock
     private RoleUpdater roleUpdater;
 
+    @Mock
+    private AccessClosureRegistry accessClosures;
+
     private RoleServiceImpl roleService;
 
     @BeforeEach
     void setUp() {
-        roleService = new RoleServiceImpl(roleRepository, roleValidation, roleUpdater);
+        roleService = new RoleServiceImpl(roleRepository, roleValidation, roleUpdater, accessClosures);
     }
 
     @Nested
@@ -70,6 +74,7 @@ public class RoleServiceImplTest {
 
             verify(roleValidation).validateRoleRequestInformation(request);
             verify(roleRepository).save(any(Role.class));
+            verify(accessClosures).invalidate();
 
             assertEquals(savedRole.getId(), response.id());
             assertEquals(savedRole.getName(), response.name());
@@ -157,6 +162,7 @@ public class RoleServiceImplTest {
             assertEquals("LITTLE BOSS", result.name());
             assertEquals("New description", result.description());
             verify(roleRepository).save(roleToUpdate);
+            verify(accessClosures).invalidate();
         }
 
         @Test
@@ -218,6 +224,7 @@ public class RoleServiceImplTest {
 
             verify(roleRepository).findById(id);
             verify(roleRepository).delete(existingRole);
+            verify(accessClosures).invalidate();
         }
 
         @Test
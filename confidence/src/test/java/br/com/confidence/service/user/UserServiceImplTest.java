@@ -4,7 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
@@ -12,16 +12,20 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import br.com.confidence.dto.user.UserEmailUpdateRequest;
@@ -38,6 +42,7 @@ import br.com.confidence.exception.user.UserAlreadyExistsException;
 import br.com.confidence.exception.user.UserNotFoundException;
 import br.com.confidence.model.role.Role;
 import br.com.confidence.model.user.User;
+import br.com.confidence.repository.auth.PasswordResetTokenRepository;
 import br.com.confidence.repository.role.RoleRepository;
 import br.com.confidence.repository.user.UserRepository;
 import br.com.confidence.updater.user.UserUpdater;
@@ -61,12 +66,15 @@ public class UserServiceImplTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private PasswordResetTokenRepository passwordResetTokenRepository;
+
     private UserServiceImpl userServiceImpl;
 
     @BeforeEach
     void setUp() {
         userServiceImpl = new UserServiceImpl(userRepository, roleRepository, userValidation, userUpdater,
-                passwordEncoder);
+                passwordEncoder, passwordResetTokenRepository);
     }
 
     @Nested
@@ -88,19 +96,16 @@ public class UserServiceImplTest {
             savedUser.setPassword("encoded-password");
             savedUser.setRoles(List.of(defaultRole));
 
-            when(userRepository.existsByEmail(user.email())).thenReturn(false);
-            // ✅ MUDANÇA: List ao invés de Optional
-            when(roleRepository.findByName("ROLE_USER")).thenReturn(List.of(defaultRole));
+            when(roleRepository.findByName("USER")).thenReturn(List.of(defaultRole));
             when(passwordEncoder.encode(user.password())).thenReturn("encoded-password");
-            when(userRepository.save(any(User.class))).thenReturn(savedUser);
+            when(userRepository.saveAndFlush(any(User.class))).thenReturn(savedUser);
 
             UserResponse response = userServiceImpl.create(user);
 
             verify(userValidation).validateUserRequest(user);
-            verify(userRepository).existsByEmail(user.email());
-            verify(roleRepository).findByName("ROLE_USER");
+            verify(roleRepository).findByName("USER");
             verify(passwordEncoder).encode(user.password());
-            verify(userRepository).save(any(User.class));
+            verify(userRepository).saveAndFlush(any(User.class));
 
             assertEquals(savedUser.getId(), response.id());
             assertEquals(savedUser.getName(), response.name());
@@ -111,17 +116,50 @@ public class UserServiceImplTest {
         void shouldReturnErrorWhenTryingCreateUserWithRoleThatIsNotFound() {
             UserRequest request = new UserRequest("Yarlei", "teste@email.com", "SenhaForte@123");
 
-            when(userRepository.existsByEmail(request.email())).thenReturn(false);
-            // ✅ MUDANÇA: Lista vazia ao invés de Optional.empty()
-            when(roleRepository.findByName("ROLE_USER")).thenReturn(Collections.emptyList());
+            when(roleRepository.findByName("USER")).thenReturn(Collections.emptyList());
 
             assertThrows(RoleNotFoundException.class, () -> userServiceImpl.create(request));
 
             verify(userValidation).validateUserRequest(request);
-            verify(userRepository).existsByEmail(request.email());
-            verify(roleRepository).findByName("ROLE_USER");
+            verify(roleRepository).findByName("USER");
             verifyNoInteractions(passwordEncoder, userUpdater);
-            verify(userRepository, never()).save(any(User.class));
+            verify(userRepository, never()).saveAndFlush(any(User.class));
+        }
+
+        @Test
+        void shouldThrowUserAlreadyExistsExceptionWhenEmailViolatesUniqueConstraintOnCreate() {
+            Role defaultRole = new Role();
+            defaultRole.setId(1L);
+            defaultRole.setName("USER");
+
+            UserRequest request = new UserRequest("Yarlei", "teste@email.com", "SenhaForte@123");
+
+            when(roleRepository.findByName("USER")).thenReturn(List.of(defaultRole));
+            when(passwordEncoder.encode(request.password())).thenReturn("encoded-password");
+            when(userRepository.saveAndFlush(any(User.class)))
+                    .thenThrow(uniqueViolation("users.ux_users_email_normalized"));
+
+            assertThrows(UserAlreadyExistsException.class, () -> userServiceImpl.create(request));
+
+            verify(userValidation).validateUserRequest(request);
+            verify(userRepository).saveAndFlush(any(User.class));
+        }
+
+        @Test
+        void shouldRethrowIntegrityViolationsUnrelatedToEmailOnCreate() {
+            Role defaultRole = new Role();
+            defaultRole.setId(1L);
+            defaultRole.setName("USER");
+
+            UserRequest request = new UserRequest("Yarlei", "teste@email.com", "SenhaForte@123");
+            DataIntegrityViolationException violation = uniqueViolation("fk_user_role_role");
+
+            when(roleRepository.findByName("USER")).thenReturn(List.of(defaultRole));
+            when(passwordEncoder.encode(request.password())).thenReturn("encoded-password");
+            when(userRepository.saveAndFlush(any(User.class))).thenThrow(violation);
+
+            assertEquals(violation, assertThrows(DataIntegrityViolationException.class,
+                    () -> userServiceImpl.create(request)));
         }
 
         @Test
@@ -139,8 +177,7 @@ public class UserServiceImplTest {
 
             verify(userValidation).validateUserRequest(request);
             verifyNoInteractions(roleRepository, passwordEncoder, userUpdater);
-            verify(userRepository, never()).existsByEmail(any());
-            verify(userRepository, never()).save(any(User.class));
+            verify(userRepository, never()).saveAndFlush(any(User.class));
         }
     }
 
@@ -256,8 +293,7 @@ public class UserServiceImplTest {
             existingUser.setRoles(List.of());
 
             when(userRepository.findById(id)).thenReturn(Optional.of(existingUser));
-            when(userRepository.existsByEmail(request.email())).thenReturn(false);
-            when(userRepository.save(existingUser)).thenReturn(existingUser);
+            when(userRepository.saveAndFlush(existingUser)).thenReturn(existingUser);
 
             doAnswer(invocation -> {
                 User userArg = invocation.getArgument(0, User.class);
@@ -270,9 +306,8 @@ public class UserServiceImplTest {
 
             verify(userRepository).findById(id);
             verify(userValidation).validateEmailUserRequest(request.email());
-            verify(userRepository).existsByEmail(request.email());
             verify(userUpdater).updateEmail(existingUser, request.email());
-            verify(userRepository).save(existingUser);
+            verify(userRepository).saveAndFlush(existingUser);
 
             assertEquals(request.email(), response.email());
         }
@@ -290,15 +325,15 @@ public class UserServiceImplTest {
             existingUser.setRoles(List.of());
 
             when(userRepository.findById(id)).thenReturn(Optional.of(existingUser));
-            when(userRepository.existsByEmail(newEmail)).thenReturn(true);
+            when(userRepository.saveAndFlush(existingUser))
+                    .thenThrow(uniqueViolation("PUBLIC.UX_USERS_EMAIL_NORMALIZED"));
 
             assertThrows(UserAlreadyExistsException.class, () -> userServiceImpl.updateEmail(request, id));
 
             verify(userRepository).findById(id);
             verify(userValidation).validateEmailUserRequest(newEmail);
-            verify(userRepository).existsByEmail(newEmail);
-            verifyNoInteractions(userUpdater);
-            verify(userRepository, never()).save(any(User.class));
+            verify(userUpdater).updateEmail(existingUser, newEmail);
+            verify(userRepository).saveAndFlush(existingUser);
         }
 
         @Test
@@ -323,9 +358,8 @@ public class UserServiceImplTest {
 
             verify(userRepository).findById(id);
             verify(userValidation).validateEmailUserRequest(invalidEmail);
-            verify(userRepository, never()).existsByEmail(anyString());
             verifyNoInteractions(userUpdater);
-            verify(userRepository, never()).save(any(User.class));
+            verify(userRepository, never()).saveAndFlush(any(User.class));
         }
 
         @Test
@@ -340,8 +374,7 @@ public class UserServiceImplTest {
 
             verify(userRepository).findById(id);
             verifyNoInteractions(userValidation, userUpdater);
-            verify(userRepository, never()).existsByEmail(anyString());
-            verify(userRepository, never()).save(any(User.class));
+            verify(userRepository, never()).saveAndFlush(any(User.class));
         }
     }
 
@@ -458,7 +491,9 @@ public class UserServiceImplTest {
             userServiceImpl.delete(id);
 
             verify(userRepository).findById(id);
-            verify(userRepository).delete(user);
+            verify(passwordResetTokenRepository).deleteByUserId(user.getId());
+            verify(userRepository).softDelete(eq(user.getId()), any(LocalDateTime.class));
+            verify(userRepository, never()).delete(any(User.class));
         }
 
         @Test
@@ -595,4 +630,10 @@ public class UserServiceImplTest {
         }
     }
 
+    private static DataIntegrityViolationException uniqueViolation(String constraintName) {
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("could not execute statement",
+                        new SQLIntegrityConstraintViolationException("Duplicate entry"), constraintName));
+    }
+
 }
@@ -0,0 +1,68 @@
+package br.com.confidence.validation.user;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class BreachedPasswordDatabaseTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldFindEveryWrittenPasswordAndNothingElse() throws IOException {
+        Path file = directory.resolve("breached.bin");
+        List<byte[]> digests = Stream.of("123456", "password", "Senha@123", "qwerty", "123456")
+                .map(password -> BreachedPasswordDatabase.sha1().digest(password.getBytes(StandardCharsets.UTF_8)))
+                .sorted(Arrays::compareUnsigned)
+                .toList();
+
+        assertEquals(4, BreachedPasswordDatabase.write(file, digests.iterator()));
+
+        try (BreachedPasswordDatabase database = BreachedPasswordDatabase.open(file)) {
+            assertEquals(4, database.size());
+            assertTrue(database.isBreached("123456"));
+            assertTrue(database.isBreached("Senha@123"));
+            assertTrue(database.isBreached("qwerty"));
+            assertFalse(database.isBreached("SenhaSegura@123"));
+            assertFalse(database.isBreached(""));
+        }
+    }
+
+    @Test
+    void shouldRejectUnsortedInput() {
+        List<byte[]> digests = Stream.of("a", "b", "c")
+                .map(password -> BreachedPasswordDatabase.sha1().digest(password.getBytes(StandardCharsets.UTF_8)))
+                .sorted(Comparator.<byte[], byte[]>comparing(digest -> digest, Arrays::compareUnsigned).reversed())
+                .toList();
+
+        assertThrows(IllegalArgumentException.class,
+                () -> BreachedPasswordDatabase.write(directory.resolve("unsorted.bin"), digests.iterator()));
+    }
+
+    @Test
+    void shouldRejectFilesWithoutHeader() throws IOException {
+        Path file = Files.write(directory.resolve("corpus.txt"), "5BAA61E4C9B93F3F0682250B6CF8331B7EE68FD8:1".getBytes());
+
+        assertThrows(IOException.class, () -> BreachedPasswordDatabase.open(file));
+    }
+
+    @Test
+    void shouldTreatEmptyDatabaseAsNeverBreached() {
+        assertFalse(BreachedPasswordDatabase.empty().isBreached("123456"));
+    }
+
+}
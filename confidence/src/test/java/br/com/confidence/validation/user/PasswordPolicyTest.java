@@ -0,0 +1,82 @@
+package br.com.confidence.validation.user;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+
+import br.com.confidence.exception.user.InvalidUserPasswordException;
+import br.com.confidence.validation.user.PasswordPolicy.Violation;
+
+public class PasswordPolicyTest {
+
+    private final PasswordPolicy policy = new PasswordPolicy(new PasswordPolicyProperties(8, 64, true, true, true,
+            true, "!@#$%^&*()_+-={}[]:;\"'<>,.?/", 3, 4, List.of("qwerty", "password", "word1")));
+
+    @Test
+    void shouldAcceptPasswordMatchingEveryRule() {
+        assertTrue(policy.violations("SenhaSegura@123").isEmpty());
+    }
+
+    @Test
+    void shouldReportEveryViolationInOnePass() {
+        assertEquals(EnumSet.of(Violation.TOO_SHORT, Violation.MISSING_UPPERCASE, Violation.MISSING_DIGIT,
+                Violation.MISSING_SPECIAL), policy.violations("weak"));
+    }
+
+    @Test
+    void shouldRejectRepeatedAndSequentialCharacters() {
+        assertEquals(EnumSet.of(Violation.REPEATED_CHARACTERS), policy.violations("Senha@aaaa9"));
+        assertEquals(EnumSet.of(Violation.SEQUENTIAL_CHARACTERS), policy.violations("Senha@12345"));
+        assertEquals(EnumSet.of(Violation.SEQUENTIAL_CHARACTERS), policy.violations("Senha@9EDCBa"));
+    }
+
+    @Test
+    void shouldRejectBannedWordsCaseInsensitivelyIncludingOverlaps() {
+        assertEquals(EnumSet.of(Violation.BANNED_WORD), policy.violations("My@QwErTy9"));
+        assertEquals(EnumSet.of(Violation.BANNED_WORD), policy.violations("Pass@Word1x"));
+    }
+
+    @Test
+    void shouldMatchBannedWordsRegardlessOfDefaultLocale() {
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+        try {
+            PasswordPolicy turkish = new PasswordPolicy(new PasswordPolicyProperties(8, 72, true, true, true,
+                    true, "@", 0, 0, List.of("LETMEIN")));
+
+            assertEquals(EnumSet.of(Violation.BANNED_WORD), turkish.violations("My@LetMeIn9"));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    void shouldMeasureMaximumLengthInUtf8Bytes() {
+        PasswordPolicy bcryptBound = new PasswordPolicy(new PasswordPolicyProperties(8, 128, true, true, true,
+                true, "@", 0, 0, List.of()));
+
+        assertTrue(bcryptBound.violations("Aa1@" + "x".repeat(68)).isEmpty());
+        assertEquals(EnumSet.of(Violation.TOO_LONG), bcryptBound.violations("Aa1@" + "x".repeat(69)));
+        assertEquals(EnumSet.of(Violation.TOO_LONG), bcryptBound.violations("Aa1@" + "ç".repeat(35)));
+        assertEquals(EnumSet.of(Violation.TOO_LONG), bcryptBound.violations("Aa1@" + "\uD83D\uDD12".repeat(18)));
+        assertTrue(bcryptBound.violations("Aa1@" + "ç".repeat(34)).isEmpty());
+    }
+
+    @Test
+    void shouldJoinAllViolationMessagesInException() {
+        InvalidUserPasswordException ex = assertThrows(InvalidUserPasswordException.class,
+                () -> policy.check("abcdefgh"));
+
+        assertEquals("Password must contain at least one uppercase letter; "
+                + "Password must contain at least one digit; "
+                + "Password must contain at least one special character; "
+                + "Password must not contain sequences longer than 4 characters", ex.getMessage());
+    }
+
+}
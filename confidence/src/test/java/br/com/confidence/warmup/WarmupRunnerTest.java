@@ -0,0 +1,37 @@
+package br.com.confidence.warmup;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.confidence.repository.user.UserRepository;
+import br.com.confidence.security.TokenService;
+import br.com.confidence.validation.user.UserValidation;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class WarmupRunnerTest {
+
+    @Test
+    void shouldAuthenticateWarmupUserWithoutRecordingAuthMetrics() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        WarmupRunner runner = new WarmupRunner(mock(TokenService.class), mock(UserRepository.class),
+                mock(UserValidation.class), new ObjectMapper().findAndRegisterModules(), meterRegistry);
+        ReflectionTestUtils.setField(runner, "iterations", 3);
+        ReflectionTestUtils.setField(runner, "passwordHashIterations", 2);
+        ReflectionTestUtils.setField(runner, "maxDuration", Duration.ofSeconds(30));
+
+        runner.run(null);
+
+        assertEquals(List.of("application.warmup.duration"),
+                meterRegistry.getMeters().stream().map(Meter::getId).map(Meter.Id::getName).toList());
+    }
+
+}